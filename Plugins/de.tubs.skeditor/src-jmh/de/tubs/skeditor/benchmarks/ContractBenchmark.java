@@ -0,0 +1,127 @@
+package de.tubs.skeditor.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.Requirement;
+import de.tubs.skeditor.compositionality.KeymaeraString;
+import de.tubs.skeditor.contracting.Contract;
+import de.tubs.skeditor.contracting.ContractEngine;
+import de.tubs.skeditor.contracting.ContractPropagator;
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+import de.tubs.skeditor.contracting.grammar.VariableListener;
+import de.tubs.skeditor.contracting.grammar.folLexer;
+import de.tubs.skeditor.contracting.grammar.folParser;
+import de.tubs.skeditor.utils.GraphIndex;
+import de.tubs.skeditor.utils.GraphTraversal;
+
+/**
+ * Contract propagation, formula parsing and program generation on synthetic
+ * graphs.
+ */
+@State(Scope.Benchmark)
+public class ContractBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int size;
+
+	private Graph graph;
+	private Requirement leafRequirement;
+	private List<String> terms;
+	private int edits;
+
+	@Setup
+	public void setUp() {
+		graph = SyntheticGraphs.create(size);
+		Node leaf = graph.getNodes().isEmpty() ? graph.getRootNode() : graph.getNodes().get(graph.getNodes().size() - 1);
+		leafRequirement = leaf.getRequirements().get(0);
+		terms = new ArrayList<String>();
+		for (int i = 0; i < size; i++) {
+			terms.add(SyntheticGraphs.distinctRequirement(i));
+		}
+	}
+
+	/**
+	 * Changes one leaf requirement and recomputes all contracts, the common
+	 * case while editing.
+	 */
+	@Benchmark
+	public Map<Node, Contract> contractsAfterEdit() {
+		leafRequirement.setTerm(SyntheticGraphs.requirement(edits++));
+		return ContractEngine.forGraph(graph).getContracts();
+	}
+
+	@Benchmark
+	public Contract rootContractMemoized() {
+		return ContractPropagator.computeContract(graph.getRootNode());
+	}
+
+	@Benchmark
+	public void getVariables(Blackhole blackhole) {
+		for (String term : terms) {
+			blackhole.consume(GrammarUtil.getVariables(term));
+		}
+	}
+
+	/**
+	 * Extracts the variables with a new lexer and parser per term, as before
+	 * the formula cache.
+	 */
+	@Benchmark
+	public void getVariablesUncached(Blackhole blackhole) {
+		for (String term : terms) {
+			folLexer lexer = new folLexer(CharStreams.fromString(term));
+			lexer.removeErrorListeners();
+			folParser parser = new folParser(new CommonTokenStream(lexer));
+			parser.removeErrorListeners();
+			VariableListener listener = new VariableListener();
+			ParseTreeWalker.DEFAULT.walk(listener, parser.formula());
+			blackhole.consume(listener.getVariables());
+		}
+	}
+
+	@Benchmark
+	public String keymaeraString() {
+		return new KeymaeraString(graph.getRootNode()).getString();
+	}
+
+	/**
+	 * Reachability of every node from the root, answered by the index of the
+	 * graph and by a traversal per query.
+	 */
+	@Benchmark
+	public int isDescendantIndexed() {
+		GraphIndex index = GraphIndex.forGraph(graph);
+		int count = 0;
+		for (Node node : graph.getNodes()) {
+			if (index.isDescendant(graph.getRootNode(), node)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int isDescendantTraversal() {
+		int count = 0;
+		for (Node node : graph.getNodes()) {
+			if (GraphTraversal.isDescendant(graph.getRootNode(), node)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
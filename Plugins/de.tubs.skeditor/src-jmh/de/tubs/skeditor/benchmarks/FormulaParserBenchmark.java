@@ -0,0 +1,88 @@
+package de.tubs.skeditor.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.tubs.skeditor.contracting.grammar.FormulaParser;
+import de.tubs.skeditor.contracting.grammar.folLexer;
+import de.tubs.skeditor.contracting.grammar.folParser;
+
+/**
+ * Parsing a corpus of requirements with the two-stage {@link FormulaParser}
+ * and with a new lexer and parser in full LL mode per requirement. With
+ * <code>size = 0</code> the terms of the grammar regression corpus are parsed
+ * instead of synthetic requirements.
+ */
+@State(Scope.Benchmark)
+public class FormulaParserBenchmark {
+
+	private static final String CORPUS_FILE = "resources/fol_regression_corpus.txt";
+
+	@Param({ "0", "100", "1000" })
+	public int size;
+
+	private List<String> requirements;
+
+	@Setup
+	public void setUp() throws IOException {
+		requirements = new ArrayList<String>();
+		if (size == 0) {
+			for (String line : Files.readAllLines(Paths.get(CORPUS_FILE), StandardCharsets.UTF_8)) {
+				if (!line.startsWith("#") && !line.isEmpty()) {
+					requirements.add(line.split("\t", -1)[0]);
+				}
+			}
+			return;
+		}
+		for (int i = 0; i < size; i++) {
+			switch (i % 4) {
+			case 0:
+				requirements.add(SyntheticGraphs.requirement(i));
+				break;
+			case 1:
+				requirements.add("(" + SyntheticGraphs.requirement(i) + ") => " + SyntheticGraphs.variable(i) + " != 0");
+				break;
+			case 2:
+				requirements.add(SyntheticGraphs.variable(i) + "^2 + " + SyntheticGraphs.variable(i + 1) + "*("
+						+ SyntheticGraphs.variable(i + 2) + " - 1) <= 10 | !" + SyntheticGraphs.variable(i + 3));
+				break;
+			default:
+				// invalid, parsed twice by the two-stage parser
+				requirements.add(SyntheticGraphs.variable(i) + " >= & 0");
+				break;
+			}
+		}
+	}
+
+	@Benchmark
+	public void twoStage(Blackhole blackhole) {
+		FormulaParser parser = FormulaParser.get();
+		for (String requirement : requirements) {
+			blackhole.consume(parser.parseCondition(requirement, null));
+		}
+	}
+
+	@Benchmark
+	public void freshParserLL(Blackhole blackhole) {
+		for (String requirement : requirements) {
+			folLexer lexer = new folLexer(CharStreams.fromString(requirement));
+			lexer.removeErrorListeners();
+			folParser parser = new folParser(new CommonTokenStream(lexer));
+			parser.removeErrorListeners();
+			blackhole.consume(parser.condition());
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package de.tubs.skeditor.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.tubs.skeditor.keymaera.DynamicModel;
+import de.tubs.skeditor.keymaera.Expression;
+import de.tubs.skeditor.keymaera.ParsingException;
+import de.tubs.skeditor.keymaera.SparseSymbolicMatrix;
+import de.tubs.skeditor.keymaera.SymbolicMatrix;
+import de.tubs.skeditor.keymaera.SymbolicVector;
+
+/**
+ * Parsing and arithmetic of the symbolic state space equations for systems
+ * with the given number of state variables.
+ */
+@State(Scope.Benchmark)
+public class SymbolicBenchmark {
+
+	@Param({ "2", "8", "32" })
+	public int dimension;
+
+	private String equation;
+	private SymbolicMatrix a;
+	private SymbolicMatrix b;
+	private SymbolicMatrix banded;
+	private SymbolicMatrix sparseBanded;
+	private List<Expression> expressions;
+
+	@Setup
+	public void setUp() {
+		a = matrix("a");
+		b = matrix("b");
+		banded = bandedMatrix("c");
+		sparseBanded = new SparseSymbolicMatrix(banded);
+		equation = vector("x", "'") + " = " + matrixString("a") + "*" + vector("x", "") + " + "
+				+ matrixString("b") + "*" + vector("u", "");
+		expressions = new ArrayList<Expression>();
+		for (int i = 0; i < dimension; i++) {
+			for (int j = 0; j < dimension; j++) {
+				expressions.add(a.get(i, j).multiply(new Expression("1")).add(new Expression("0")));
+			}
+		}
+	}
+
+	@Benchmark
+	public DynamicModel parse() throws ParsingException {
+		DynamicModel model = new DynamicModel("");
+		model.parse(equation);
+		return model;
+	}
+
+	@Benchmark
+	public SymbolicMatrix multiply() {
+		return a.multiply(b);
+	}
+
+	@Benchmark
+	public SymbolicMatrix multiplyBandedDense() {
+		return banded.multiply(banded);
+	}
+
+	@Benchmark
+	public SymbolicMatrix multiplyBandedSparse() {
+		return sparseBanded.multiply(sparseBanded);
+	}
+
+	@Benchmark
+	public SymbolicMatrix addMatrix() {
+		return a.addMatrix(b);
+	}
+
+	@Benchmark
+	public void simplify(Blackhole blackhole) {
+		for (Expression expression : expressions) {
+			blackhole.consume(expression.simplify());
+		}
+	}
+
+	private SymbolicMatrix matrix(String name) {
+		SymbolicMatrix matrix = new SymbolicMatrix();
+		for (int i = 0; i < dimension; i++) {
+			SymbolicVector row = new SymbolicVector();
+			for (int j = 0; j < dimension; j++) {
+				row.addExpression(new Expression(name + i + "_" + j));
+			}
+			matrix.addRow(row);
+		}
+		return matrix;
+	}
+
+	/**
+	 * Tridiagonal matrix, as typical for chains of integrators
+	 */
+	private SymbolicMatrix bandedMatrix(String name) {
+		SymbolicMatrix matrix = new SymbolicMatrix(dimension, dimension);
+		for (int i = 0; i < dimension; i++) {
+			for (int j = Math.max(0, i - 1); j <= Math.min(dimension - 1, i + 1); j++) {
+				matrix.set(i, j, new Expression(name + i + "_" + j));
+			}
+		}
+		return matrix;
+	}
+
+	private String matrixString(String name) {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < dimension; i++) {
+			builder.append(i == 0 ? "[" : ",[");
+			for (int j = 0; j < dimension; j++) {
+				builder.append(j == 0 ? "" : ",").append(name).append(i).append('_').append(j);
+			}
+			builder.append(']');
+		}
+		return builder.append(']').toString();
+	}
+
+	private String vector(String name, String suffix) {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < dimension; i++) {
+			builder.append(i == 0 ? "" : ",").append(name).append(i).append(suffix);
+		}
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,88 @@
+package de.tubs.skeditor.benchmarks;
+
+import SkillGraph.Controller;
+import SkillGraph.Edge;
+import SkillGraph.Equation;
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.Parameter;
+import SkillGraph.Requirement;
+import SkillGraph.SkillGraphFactory;
+
+/**
+ * Builds skill graphs of a given size for the benchmarks. Node i has the
+ * children 2i+1 and 2i+2 and shares the child 2i+3 with its right neighbour,
+ * so the graph is a DAG with many paths to the same sub-skills.
+ */
+public class SyntheticGraphs {
+
+	public static final int PARAMETERS = 16;
+
+	private SyntheticGraphs() {
+	}
+
+	public static Graph create(int size) {
+		SkillGraphFactory factory = SkillGraphFactory.eINSTANCE;
+		Graph graph = factory.createGraph();
+		for (int i = 0; i < PARAMETERS; i++) {
+			Parameter parameter = factory.createParameter();
+			parameter.setName("parameter" + i);
+			parameter.setAbbreviation(variable(i));
+			parameter.setVariable(i % 2 == 0);
+			graph.getParameterList().add(parameter);
+		}
+
+		Node[] nodes = new Node[size];
+		for (int i = 0; i < size; i++) {
+			Node node = factory.createNode();
+			node.setName("skill" + i);
+
+			Requirement requirement = factory.createRequirement();
+			requirement.setTerm(requirement(i));
+			node.getRequirements().add(requirement);
+
+			Equation equation = factory.createEquation();
+			equation.setEquation(variable(i) + "' = " + variable(i + 1) + " + " + variable(i + 2));
+			node.getEquations().add(equation);
+
+			Controller controller = factory.createController();
+			controller.setCtrl(variable(i) + " := " + variable(i + 3) + ";");
+			node.getController().add(controller);
+
+			nodes[i] = node;
+			if (i == 0) {
+				graph.setRootNode(node);
+			} else {
+				graph.getNodes().add(node);
+			}
+		}
+
+		for (int i = 0; i < size; i++) {
+			for (int child = 2 * i + 1; child <= 2 * i + 3 && child < size; child++) {
+				Edge edge = factory.createEdge();
+				edge.setParentNode(nodes[i]);
+				edge.setChildNode(nodes[child]);
+				nodes[child].getParentNodes().add(nodes[i]);
+				nodes[i].getChildEdges().add(edge);
+			}
+		}
+		return graph;
+	}
+
+	public static String requirement(int i) {
+		return variable(i) + " >= 0 & " + variable(i + 5) + " < " + variable(i + 7) + " + 2*" + variable(i + 11);
+	}
+
+	public static String variable(int i) {
+		return "v" + (i % PARAMETERS);
+	}
+
+	/**
+	 * @return a requirement that differs from the requirements of all other
+	 *         indices, unlike {@link #requirement(int)}, which repeats after
+	 *         {@link #PARAMETERS} indices
+	 */
+	public static String distinctRequirement(int i) {
+		return "d" + i + " >= 0 & d" + (i + 1) + " < " + i + " + 2*d" + (i + 2);
+	}
+}
@@ -2,10 +2,17 @@ package de.tubs.skeditor;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
 
+import de.tubs.skeditor.verification.ProofCache;
+import de.tubs.skeditor.verification.ProofJob;
+import de.tubs.skeditor.verification.ProofScheduler;
+import de.tubs.skeditor.verification.ProverSessionPool;
+import de.tubs.skeditor.verification.Provers;
+
 /**
  * The activator class controls the plug-in life cycle
  */
@@ -37,6 +44,11 @@ public class Activator extends AbstractUIPlugin {
 	 * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
 	 */
 	public void stop(BundleContext context) throws Exception {
+		Job.getJobManager().cancel(ProofJob.FAMILY);
+		ProofScheduler.shutdown();
+		Provers.shutdown();
+		ProverSessionPool.shutdown();
+		ProofCache.flushAll();
 		plugin = null;
 		super.stop(context);
 	}
@@ -0,0 +1,100 @@
+package de.tubs.skeditor.compositionality;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import SkillGraph.Equation;
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.Parameter;
+import de.tubs.skeditor.contracting.Contract;
+import de.tubs.skeditor.contracting.ContractPropagator;
+import de.tubs.skeditor.keymaera.DynamicModel;
+import de.tubs.skeditor.keymaera.Template;
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+import de.tubs.skeditor.keymaera.ValuedParameter;
+import de.tubs.skeditor.utils.GraphUtil;
+
+/**
+ * Generates the KeYmaera X program that checks a skill. If the template
+ * registry has a user template for the category of the skill, the template is
+ * rendered with the dynamics and parameters of the graph and the contract of
+ * the skill, otherwise the program of {@link KeymaeraString} is used.
+ */
+public class KeymaeraProgram {
+
+	private KeymaeraProgram() {
+	}
+
+	/**
+	 * @param node
+	 *            the skill to check
+	 * @param templates
+	 *            the templates of the project of the skill
+	 * @return the program or null if the skill has no controller
+	 */
+	public static String create(Node node, TemplateRegistry templates) {
+		if (node.getController().isEmpty()) {
+			return null;
+		}
+		String category = node.getCategory() == null ? null : node.getCategory().getName();
+		Template template = templates.findUserTemplate(category);
+		if (template == null) {
+			return new KeymaeraString(node).getString();
+		}
+
+		DynamicModel dynamicModel = new DynamicModel(template);
+		List<Equation> equations = new ArrayList<Equation>(node.getEquations());
+		equations.addAll(GraphUtil.getPropagatedEquations(node));
+		for (Equation eq : equations) {
+			dynamicModel.addEquation(eq.getEquation());
+		}
+		addParameters(dynamicModel, (Graph) node.eContainer());
+
+		Contract contract = ContractPropagator.computeContract(node);
+		StringBuilder program = new StringBuilder();
+		try {
+			dynamicModel.writeKeYmaeraProgram(contract.getAssumption(), contract.getGuarantee(), program);
+		} catch (IOException e) {
+			// not thrown by a StringBuilder
+			throw new UncheckedIOException(e);
+		}
+		return program.toString();
+	}
+
+	private static void addParameters(DynamicModel dynamicModel, Graph graph) {
+		for (Parameter parameter : graph.getParameterList()) {
+			if (!parameter.getDefaultValue().equals("")) {
+				String value = parameter.getDefaultValue().replace(" ", "");
+				String[] valueSplit = value.split("\\[");
+				String defaultValue = valueSplit[0];
+				String lowLimit = null, highLimit = null;
+				if (valueSplit.length > 1) { // this is just horrible, but it works
+					lowLimit = valueSplit[1].split(":")[0];
+					highLimit = valueSplit[1].split(":")[1].split("\\]")[0];
+				}
+				if (parameter.isVariable()) {
+					if (lowLimit == null) {
+						dynamicModel.addVariable(parameter.getAbbreviation(), defaultValue);
+					} else if (defaultValue == null) {
+						dynamicModel.addVariable(parameter.getAbbreviation(), lowLimit, highLimit);
+					} else {
+						dynamicModel.addVariable(parameter.getAbbreviation(), lowLimit, highLimit, defaultValue);
+					}
+				} else {
+					if (lowLimit != null) {
+						dynamicModel.addConstant(new ValuedParameter(parameter.getAbbreviation(), lowLimit, parameter.getUnit(), highLimit));
+					} else {
+						dynamicModel.addConstant(new ValuedParameter(parameter.getAbbreviation(), parameter.getDefaultValue(), parameter.getUnit()));
+					}
+				}
+			} else if (parameter.isVariable()) {
+				dynamicModel.addVariable(parameter.getAbbreviation());
+			} else {
+				dynamicModel.addConstant(new ValuedParameter(parameter.getAbbreviation(), null, parameter.getUnit()));
+			}
+		}
+	}
+}
@@ -10,8 +10,15 @@
 
 package de.tubs.skeditor.compositionality;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import SkillGraph.Graph;
 import SkillGraph.Node;
+import SkillGraph.Parameter;
+import SkillGraph.Requirement;
 import de.tubs.skeditor.utils.GraphUtil;
 
 public class KeymaeraString {
@@ -22,180 +29,138 @@ public class KeymaeraString {
 		this.keymaeraString = createKeymaeraString(o);
 	}
 
+	/**
+	 * Creates the program in one pass: the preconditions are collected once,
+	 * every term is split into its symbols once, and the declarations are
+	 * looked up in the resulting symbol sets.
+	 */
 	public String createKeymaeraString(Object bo) {
-		String s = null;
-		if (bo instanceof Node) {
-			Node node = (Node) bo;
-			if (!node.getController().isEmpty()) {
-
-				s = "Definitions \n" + "/*** Required definitions. Provided by child skills. ***/ \n";
-
-				String[] reqDef = new String[0];
-				String[] newDef = new String[0];
-				Graph g = (Graph) node.eContainer();
-				String parameter = null;
-				for (int x = 0; x < g.getParameterList().size(); x++) {
-					parameter = g.getParameterList().get(x).getAbbreviation();
-					for (int i = 0; i < GraphUtil.getPreConditionRequirements(node).size(); i++) {
-						String[] preCon = GraphUtil.getPreConditionRequirements(node).get(i).getTerm()
-								.split("\\P{Alpha}+");
-						if (stringContainsInList(parameter, preCon) && !g.getParameterList().get(x).isVariable()
-								&& !stringContainsInList(parameter, reqDef)) {
-							String[] safe = reqDef;
-							reqDef = new String[reqDef.length + 1];
-							for (int index = 0; index < safe.length; index++) {
-								reqDef[index] = safe[index];
-							}
-							reqDef[reqDef.length - 1] = parameter;
-						}
-					}
-					for (int i = 0; i < node.getRequirements().size(); i++) {
-						String[] con = node.getRequirements().get(i).getTerm().split("\\P{Alpha}+");
-						if (stringContainsInList(parameter, con) && !g.getParameterList().get(x).isVariable()
-								&& !stringContainsInList(parameter, reqDef)
-								&& !stringContainsInList(parameter, newDef)) {
-							String[] safe = newDef;
-							newDef = new String[newDef.length + 1];
-							for (int index = 0; index < safe.length; index++) {
-								newDef[index] = safe[index];
-							}
-							newDef[newDef.length - 1] = parameter;
-						}
-					}
-					String[] controller = node.getController().get(0).getCtrl().split("\\P{Alpha}+");
-					if (stringContainsInList(parameter, controller) && !g.getParameterList().get(x).isVariable()
-							&& !stringContainsInList(parameter, reqDef) && !stringContainsInList(parameter, newDef)) {
-						String[] safe = newDef;
-						newDef = new String[newDef.length + 1];
-						for (int index = 0; index < safe.length; index++) {
-							newDef[index] = safe[index];
-						}
-						newDef[newDef.length - 1] = parameter;
-					}
-
-				}
-
-				for (String def : reqDef) {
-					s += "Real " + def + "; \n";
-				}
-
-				s += "\n" + "/*** New definitions.***/ \n";
-				for (String def : newDef) {
-					s += "Real " + def + "; \n";
-				}
+		if (!(bo instanceof Node)) {
+			return null;
+		}
+		Node node = (Node) bo;
+		if (node.getController().isEmpty()) {
+			return null;
+		}
 
-				// method for req def
+		Graph g = (Graph) node.eContainer();
+		List<Requirement> preconditions = GraphUtil.getPreConditionRequirements(node);
 
-				s += "\n" + "B initial() <-> (  \n" + "/* Generate init... */ \n";
+		Set<String> preconditionSymbols = new HashSet<String>();
+		for (Requirement requirement : preconditions) {
+			addSymbols(requirement.getTerm(), preconditionSymbols);
+		}
+		Set<String> requirementSymbols = new HashSet<String>();
+		for (Requirement requirement : node.getRequirements()) {
+			addSymbols(requirement.getTerm(), requirementSymbols);
+		}
+		Set<String> controllerSymbols = new HashSet<String>();
+		addSymbols(node.getController().get(0).getCtrl(), controllerSymbols);
+
+		// declarations in the order of the parameter list
+		Set<String> reqDef = new LinkedHashSet<String>();
+		Set<String> newDef = new LinkedHashSet<String>();
+		Set<String> reqVar = new LinkedHashSet<String>();
+		Set<String> newVar = new LinkedHashSet<String>();
+		for (Parameter p : g.getParameterList()) {
+			String parameter = p.getAbbreviation();
+			Set<String> required = p.isVariable() ? reqVar : reqDef;
+			Set<String> declared = p.isVariable() ? newVar : newDef;
+			if (preconditionSymbols.contains(parameter)) {
+				required.add(parameter);
+			}
+			if (!required.contains(parameter)
+					&& (requirementSymbols.contains(parameter) || controllerSymbols.contains(parameter))) {
+				declared.add(parameter);
+			}
+		}
 
-				boolean pre = false;
-				for (int i = 0; i < GraphUtil.getPreConditionRequirements(node).size(); i++) {
-					pre = true;
-					s += GraphUtil.getPreConditionRequirements(node).get(i).getTerm();
-					if (i != GraphUtil.getPreConditionRequirements(node).size() - 1) {
-						s += " & ";
-					} else {
-						s += "\n";
-					}
-				}
-//				if (pre == true) {
-//					s += " & ";
-//				}
-//				if(!node.getRequirements().isEmpty()) {
-//					s += node.getRequirements().get(0).getTerm();
-//					for(int i = 1; i < node.getRequirements().size(); i++) {
-//
-//						s += " & "+node.getRequirements().get(i).getTerm();
-//					}
-//				}
-				s += "\n" + "). \n";
-
-				for (int x = 0; x < node.getController().size(); x++) {
-					s += node.getController().get(x).getCtrl();
-				}
+		StringBuilder s = new StringBuilder();
+		s.append("Definitions \n").append("/*** Required definitions. Provided by child skills. ***/ \n");
+		for (String def : reqDef) {
+			s.append("Real ").append(def).append("; \n");
+		}
 
-				String[] reqVar = new String[0];
-				String[] newVar = new String[0];
-
-				for (int x = 0; x < g.getParameterList().size(); x++) {
-					parameter = g.getParameterList().get(x).getAbbreviation();
-					for (int i = 0; i < GraphUtil.getPreConditionRequirements(node).size(); i++) {
-						String[] preCon = GraphUtil.getPreConditionRequirements(node).get(i).getTerm()
-								.split("\\P{Alpha}+");
-						if (stringContainsInList(parameter, preCon) && g.getParameterList().get(x).isVariable()
-								&& !stringContainsInList(parameter, reqVar)) {
-							String[] safe = reqVar;
-							reqVar = new String[reqVar.length + 1];
-							for (int index = 0; index < safe.length; index++) {
-								reqVar[index] = safe[index];
-							}
-							reqVar[reqVar.length - 1] = parameter;
-						}
-					}
-					for (int i = 0; i < node.getRequirements().size(); i++) {
-						String[] con = node.getRequirements().get(i).getTerm().split("\\P{Alpha}+");
-						if (stringContainsInList(parameter, con) && g.getParameterList().get(x).isVariable()
-								&& !stringContainsInList(parameter, reqVar)
-								&& !stringContainsInList(parameter, newVar)) {
-							String[] safe = newVar;
-							newVar = new String[newVar.length + 1];
-							for (int index = 0; index < safe.length; index++) {
-								newVar[index] = safe[index];
-							}
-							newVar[newVar.length - 1] = parameter;
-						}
-					}
-					String[] controller = node.getController().get(0).getCtrl().split("\\P{Alpha}+");
-					if (stringContainsInList(parameter, controller) && g.getParameterList().get(x).isVariable()
-							&& !stringContainsInList(parameter, reqVar) && !stringContainsInList(parameter, newVar)) {
-						String[] safe = newVar;
-						newVar = new String[newVar.length + 1];
-						for (int index = 0; index < safe.length; index++) {
-							newVar[index] = safe[index];
-						}
-						newVar[newVar.length - 1] = parameter;
-					}
+		s.append("\n").append("/*** New definitions.***/ \n");
+		for (String def : newDef) {
+			s.append("Real ").append(def).append("; \n");
+		}
 
-				}
+		s.append("\n").append("B initial() <-> (  \n").append("/* Generate init... */ \n");
+		for (int i = 0; i < preconditions.size(); i++) {
+			s.append(preconditions.get(i).getTerm());
+			s.append(i != preconditions.size() - 1 ? " & " : "\n");
+		}
+		s.append("\n").append("). \n");
 
-				s += "\n" + "End. \n" + "ProgramVariables \n" + "\n" + " /*** Required variables. ***/ \n" + "\n";
-				for (String var : reqVar) {
-					if (!var.equals("t")) {
-						s += "Real " + var + "; \n";
-					}
-				}
+		for (int x = 0; x < node.getController().size(); x++) {
+			s.append(node.getController().get(x).getCtrl());
+		}
 
-				s += "\n" + "/*** New variables. ***/ \n" + "\n";
+		s.append("\n").append("End. \n").append("ProgramVariables \n").append("\n")
+				.append(" /*** Required variables. ***/ \n").append("\n");
+		for (String var : reqVar) {
+			if (!var.equals("t")) {
+				s.append("Real ").append(var).append("; \n");
+			}
+		}
 
-				for (String var : newVar) {
-					if (!var.equals("t")) {
-						s += "Real " + var + "; \n";
-					}
+		s.append("\n").append("/*** New variables. ***/ \n").append("\n");
+		for (String var : newVar) {
+			if (!var.equals("t")) {
+				s.append("Real ").append(var).append("; \n");
+			}
+		}
 
-				}
+		s.append("/* clock */ \n").append("Real t; \n").append("\n").append("End.\n").append("\n");
 
-				s += "/* clock */ \n" + "Real t; \n" + "\n" + "End.\n" + "\n";
+		s.append("Problem \n").append("\n").append("initial() \n").append("\n").append("-> [ \n").append("{ \n")
+				.append("main; \n").append("} \n").append("](");
+		for (int i = 0; i < node.getRequirements().size(); i++) {
+			s.append(node.getRequirements().get(i).getTerm());
+			if (i != node.getRequirements().size() - 1) {
+				s.append(" & ");
+			}
+		}
 
-				s += "Problem \n" + "\n" + "initial() \n" + "\n" + "-> [ \n" + "{ \n" + "main; \n" + "} \n" + "](";
+		s.append(") \n").append("End. \n");
+		return s.toString();
+	}
 
-				for (int i = 0; i < node.getRequirements().size(); i++) {
-					if (i == node.getRequirements().size() - 1) {
-						s += node.getRequirements().get(i).getTerm();
-					} else {
-						s += (node.getRequirements().get(i).getTerm() + " & ");
-					}
+	public String getString() {
+		return this.keymaeraString;
+	}
 
+	/**
+	 * Adds the maximal runs of letters of the term, the same parts as
+	 * <code>term.split("\\P{Alpha}+")</code> gives.
+	 */
+	static void addSymbols(String term, Set<String> symbols) {
+		int start = -1;
+		boolean found = false;
+		for (int i = 0; i < term.length(); i++) {
+			if (isAlpha(term.charAt(i))) {
+				if (start < 0) {
+					start = i;
 				}
-
-				s += ") \n" + "End. \n";
+			} else if (start >= 0) {
+				symbols.add(term.substring(start, i));
+				start = -1;
+				found = true;
 			}
-
 		}
-		return s;
+		if (start >= 0) {
+			symbols.add(term.substring(start));
+			found = true;
+		}
+		if (term.isEmpty() || found && !isAlpha(term.charAt(0))) {
+			// split keeps a leading empty part unless all parts are empty
+			symbols.add("");
+		}
 	}
 
-	public String getString() {
-		return this.keymaeraString;
+	private static boolean isAlpha(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
 	}
 
 	public static boolean stringContainsInList(String inputStr, String[] items) {
@@ -0,0 +1,133 @@
+package de.tubs.skeditor.contracting;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+import de.tubs.skeditor.contracting.grammar.VariableListener;
+import de.tubs.skeditor.contracting.grammar.folParser;
+
+/**
+ * A conjunct of a contract formula. Clauses are hash-consed: two clauses with
+ * the same tokens are the same instance, regardless of the white space and the
+ * redundant parentheses around them. The text of the first occurrence is kept
+ * for the output.
+ */
+public final class Clause {
+
+	private static final Interner<Clause> CLAUSES = Interners.newWeakInterner();
+
+	private final String key;
+	private final String text;
+	private final boolean weak;
+	private final Set<String> variables;
+	private final int hash;
+
+	private Clause(String key, String text, boolean weak, Set<String> variables) {
+		this.key = key;
+		this.text = text;
+		this.weak = weak;
+		this.variables = variables;
+		this.hash = key.hashCode();
+	}
+
+	/**
+	 * @return the clause of a formula or an expression of the parse tree,
+	 *         which must not be a conjunction
+	 */
+	static Clause of(ParserRuleContext formula) {
+		StringBuilder key = new StringBuilder();
+		appendTokens(formula, key);
+		String text = formula.start.getInputStream()
+				.getText(Interval.of(formula.start.getStartIndex(), formula.stop.getStopIndex()));
+
+		boolean weak;
+		if (formula instanceof folParser.ExpressionContext) {
+			folParser.ExpressionContext expression = (folParser.ExpressionContext) formula;
+			weak = expression.DISJ() != null || expression.IMPL() != null || expression.BICOND() != null;
+		} else {
+			// quantified formulas extend to the end of the input
+			folParser.FormulaContext other = (folParser.FormulaContext) formula;
+			weak = other.quantifier() != null || other.operatorformula() != null;
+		}
+
+		VariableListener listener = new VariableListener();
+		ParseTreeWalker.DEFAULT.walk(listener, formula);
+		return intern(key.toString(), text, weak, listener.getVariables());
+	}
+
+	/**
+	 * @return the clause of a term that could not be parsed, the text is only
+	 *         normalized in its white space
+	 */
+	static Clause ofText(String term) {
+		String text = term.trim();
+		return intern(text.replaceAll("\\s+", " "), text, false, GrammarUtil.getVariables(text));
+	}
+
+	private static Clause intern(String key, String text, boolean weak, Set<String> variables) {
+		return CLAUSES.intern(
+				new Clause(key, text, weak, Collections.unmodifiableSet(new HashSet<String>(variables))));
+	}
+
+	private static void appendTokens(ParseTree tree, StringBuilder key) {
+		if (tree instanceof TerminalNode) {
+			if (key.length() > 0) {
+				key.append(' ');
+			}
+			key.append(tree.getText());
+			return;
+		}
+		for (int i = 0; i < tree.getChildCount(); i++) {
+			appendTokens(tree.getChild(i), key);
+		}
+	}
+
+	/**
+	 * @return the variables of the clause, the returned set is shared and must
+	 *         not be modified
+	 */
+	public Set<String> getVariables() {
+		return variables;
+	}
+
+	/**
+	 * @return true if the clause binds weaker than a conjunction and must be
+	 *         parenthesized as conjunct
+	 */
+	boolean isWeak() {
+		return weak;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Clause)) {
+			return false;
+		}
+		Clause other = (Clause) obj;
+		return hash == other.hash && key.equals(other.key);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return text;
+	}
+}
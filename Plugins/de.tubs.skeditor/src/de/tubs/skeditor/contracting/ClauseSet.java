@@ -0,0 +1,179 @@
+package de.tubs.skeditor.contracting;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import de.tubs.skeditor.contracting.grammar.FormulaCache;
+import de.tubs.skeditor.contracting.grammar.FormulaParser;
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+import de.tubs.skeditor.contracting.grammar.folParser;
+
+/**
+ * Immutable conjunction of distinct {@link Clause}s in the order of their first
+ * occurrence. Formulas are split into their conjuncts on the parse tree, so a
+ * clause that occurs several times in a hierarchy of contracts is contained
+ * only once. The parse tree is only used while a term is split, the cached
+ * sets keep the clauses but no tree. The text of the conjunction is rendered by {@link #toString()},
+ * the empty conjunction is <code>true</code>.
+ */
+public final class ClauseSet implements Iterable<Clause> {
+
+	public static final ClauseSet TRUE = new ClauseSet(Collections.<Clause>emptySet());
+
+	private static final LoadingCache<String, ClauseSet> TERMS = CacheBuilder.newBuilder()
+			.maximumSize(FormulaCache.DEFAULT_CAPACITY).build(new CacheLoader<String, ClauseSet>() {
+				@Override
+				public ClauseSet load(String term) {
+					return parse(term);
+				}
+			});
+
+	private final Set<Clause> clauses;
+
+	private ClauseSet(Set<Clause> clauses) {
+		this.clauses = clauses;
+	}
+
+	/**
+	 * @return the conjuncts of the term, every distinct term is split once
+	 */
+	public static ClauseSet of(String term) {
+		if (term == null || term.trim().isEmpty()) {
+			return TRUE;
+		}
+		return TERMS.getUnchecked(term);
+	}
+
+	/**
+	 * @return the conjunction of all clauses of the sets
+	 */
+	public static ClauseSet union(Collection<ClauseSet> sets) {
+		Set<Clause> clauses = new LinkedHashSet<Clause>();
+		for (ClauseSet set : sets) {
+			clauses.addAll(set.clauses);
+		}
+		return of(clauses);
+	}
+
+	private static ClauseSet of(Set<Clause> clauses) {
+		return clauses.isEmpty() ? TRUE : new ClauseSet(Collections.unmodifiableSet(clauses));
+	}
+
+	private static ClauseSet parse(String term) {
+		Set<Clause> clauses = new LinkedHashSet<Clause>();
+		if (GrammarUtil.getSyntaxErrors(term).isEmpty()) {
+			addConjuncts(FormulaParser.get().parseFormula(term, null), clauses);
+		} else {
+			// the conjuncts are guessed from the text, valid ones are still
+			// compared on their parse tree
+			for (String clause : term.split("&")) {
+				if (clause.trim().isEmpty()) {
+					continue;
+				}
+				if (GrammarUtil.getSyntaxErrors(clause).isEmpty()) {
+					addConjuncts(FormulaParser.get().parseFormula(clause, null), clauses);
+				} else {
+					clauses.add(Clause.ofText(clause));
+				}
+			}
+		}
+		return of(clauses);
+	}
+
+	private static void addConjuncts(folParser.FormulaContext formula, Set<Clause> clauses) {
+		if (formula.expression() != null) {
+			addConjuncts(formula.expression(), clauses);
+		} else {
+			clauses.add(Clause.of(formula));
+		}
+	}
+
+	private static void addConjuncts(folParser.ExpressionContext expression, Set<Clause> clauses) {
+		if (expression.CONJ() != null) {
+			addConjuncts(expression.expression(0), clauses);
+			addConjuncts(expression.expression(1), clauses);
+			return;
+		}
+		folParser.NottermContext notterm = expression.notterm();
+		if (notterm != null && notterm.NOT() == null) {
+			folParser.TermContext term = notterm.term();
+			// contracts use true of KeYmaera X, an identifier of the grammar
+			if (term.TRUE() != null || term.getText().equals("true")) {
+				return;
+			}
+			if (term.LPAREN() != null && term.MINUS() == null && term.formula().size() == 1) {
+				// redundant parentheses
+				addConjuncts(term.formula(0), clauses);
+				return;
+			}
+		}
+		clauses.add(Clause.of(expression));
+	}
+
+	/**
+	 * @return the clauses of this set that satisfy the filter
+	 */
+	public ClauseSet filter(Predicate<Clause> filter) {
+		Set<Clause> result = new LinkedHashSet<Clause>();
+		for (Clause clause : clauses) {
+			if (filter.test(clause)) {
+				result.add(clause);
+			}
+		}
+		return result.size() == clauses.size() ? this : of(result);
+	}
+
+	public boolean contains(Clause clause) {
+		return clauses.contains(clause);
+	}
+
+	public int size() {
+		return clauses.size();
+	}
+
+	public boolean isEmpty() {
+		return clauses.isEmpty();
+	}
+
+	@Override
+	public Iterator<Clause> iterator() {
+		return clauses.iterator();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof ClauseSet && clauses.equals(((ClauseSet) obj).clauses);
+	}
+
+	@Override
+	public int hashCode() {
+		return clauses.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		if (clauses.isEmpty()) {
+			return "true";
+		}
+		StringBuilder text = new StringBuilder();
+		for (Clause clause : clauses) {
+			if (text.length() > 0) {
+				text.append(" & ");
+			}
+			if (clause.isWeak() && clauses.size() > 1) {
+				text.append('(').append(clause).append(')');
+			} else {
+				text.append(clause);
+			}
+		}
+		return text.toString();
+	}
+}
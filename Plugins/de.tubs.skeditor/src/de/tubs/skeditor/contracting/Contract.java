@@ -1,26 +1,35 @@
 package de.tubs.skeditor.contracting;
 
+/**
+ * Assumption and guarantee of a skill as conjunctions of clauses, their text
+ * is only rendered on request. Contracts are immutable, because the
+ * {@link ContractEngine} hands the same instance to every caller.
+ */
 public class Contract {
-	private String assumption;
-	private String guarantee;
+	private final ClauseSet assumption;
+	private final ClauseSet guarantee;
 	
 	public Contract(String assumption, String guarantee) {
+		this(ClauseSet.of(assumption), ClauseSet.of(guarantee));
+	}
+	
+	public Contract(ClauseSet assumption, ClauseSet guarantee) {
 		super();
 		this.assumption = assumption;
 		this.guarantee = guarantee;
 	}
 	
 	public String getAssumption() {
-		return assumption;
-	}
-	public void setAssumption(String assumption) {
-		this.assumption = assumption;
+		return assumption.toString();
 	}
 	public String getGuarantee() {
-		return guarantee;
+		return guarantee.toString();
 	}
-	public void setGuarantee(String guarantee) {
-		this.guarantee = guarantee;
+	public ClauseSet getAssumptionClauses() {
+		return assumption;
+	}
+	public ClauseSet getGuaranteeClauses() {
+		return guarantee;
 	}
 	
 	@Override
@@ -0,0 +1,128 @@
+package de.tubs.skeditor.contracting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import de.tubs.skeditor.utils.GraphTraversal;
+import de.tubs.skeditor.utils.GraphUtil;
+
+/**
+ * Computes the contracts of all skills of a graph. Every contract is computed
+ * exactly once per revision of the graph: the skills are visited in post-order,
+ * so the contracts of the children are always known when the contract of a
+ * parent is built. The engine is attached to the graph as a content adapter
+ * and starts a new revision on every change of the model.
+ */
+public class ContractEngine extends EContentAdapter {
+
+	private final Graph graph;
+	private final Map<Node, Contract> contracts = new HashMap<Node, Contract>();
+	private final SymbolTable symbols;
+	private long revision;
+
+	private ContractEngine(Graph graph) {
+		this.graph = graph;
+		this.symbols = new SymbolTable(graph);
+	}
+
+	/**
+	 * @return the engine of the graph, it is created and attached on first use
+	 */
+	public static synchronized ContractEngine forGraph(Graph graph) {
+		for (Adapter adapter : graph.eAdapters()) {
+			if (adapter instanceof ContractEngine) {
+				return (ContractEngine) adapter;
+			}
+		}
+		ContractEngine engine = new ContractEngine(graph);
+		graph.eAdapters().add(engine);
+		return engine;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ContractEngine.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		synchronized (this) {
+			revision++;
+			contracts.clear();
+			symbols.clearMasks();
+		}
+	}
+
+	public SymbolTable getSymbolTable() {
+		return symbols;
+	}
+
+	/**
+	 * @return the number of changes of the graph since the engine was attached
+	 */
+	public synchronized long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * @return the contract of the node, computed together with the contracts
+	 *         of all of its descendants if they are not known yet
+	 */
+	public synchronized Contract getContract(Node node) {
+		Contract contract = contracts.get(node);
+		if (contract == null) {
+			computeContracts(Collections.singletonList(node), contracts, symbols);
+			contract = contracts.get(node);
+		}
+		return contract;
+	}
+
+	/**
+	 * @return the contracts of all skills of the graph
+	 */
+	public synchronized Map<Node, Contract> getContracts() {
+		List<Node> nodes = new ArrayList<Node>();
+		if (graph.getRootNode() != null) {
+			nodes.add(graph.getRootNode());
+		}
+		nodes.addAll(graph.getNodes());
+		computeContracts(nodes, contracts, symbols);
+		Map<Node, Contract> result = new LinkedHashMap<Node, Contract>();
+		for (Node node : nodes) {
+			result.put(node, contracts.get(node));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Computes the contracts of the given nodes and all of their descendants
+	 * that are not already contained in the map.
+	 *
+	 * @throws GraphTraversal.CycleException
+	 *             if the skills contain a cycle
+	 */
+	static void computeContracts(Collection<Node> nodes, Map<Node, Contract> contracts, SymbolTable symbols) {
+		for (Node node : GraphTraversal.postOrder(nodes, contracts::containsKey)) {
+			List<Contract> childContracts = new ArrayList<Contract>();
+			for (Node child : GraphUtil.getChildNodes(node)) {
+				childContracts.add(contracts.get(child));
+			}
+			contracts.put(node, ContractPropagator.computeContract(node, childContracts, symbols));
+		}
+	}
+}
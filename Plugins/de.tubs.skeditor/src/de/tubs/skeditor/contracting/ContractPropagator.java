@@ -1,62 +1,66 @@
 package de.tubs.skeditor.contracting;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import com.google.common.collect.Sets;
+import java.util.Map;
 
 import SkillGraph.Graph;
 import SkillGraph.Node;
-import SkillGraph.Parameter;
 import SkillGraph.Requirement;
-import de.tubs.skeditor.contracting.grammar.GrammarUtil;
-import de.tubs.skeditor.utils.GraphUtil;
 
 public class ContractPropagator {
 
 	public ContractPropagator() {
 	}
 
+	/**
+	 * Computes the contract of the node. The contracts of the graph are
+	 * memoized by the {@link ContractEngine} until the graph is changed.
+	 */
 	public static Contract computeContract(Node node) {
-		String assume = "", safe = "";
-
-		if (GraphUtil.getChildNodes(node).isEmpty()) {
-			if (node.getRequirements().isEmpty()) {
-				safe = "true";
-			} else {
-				safe = node.getRequirements().stream().map(n -> n.getTerm().toString())
-						.collect(Collectors.joining(" & "));
-			}
-			return new Contract("true", safe);
-		} else {
-			List<String> guarantees = GraphUtil.getChildNodes(node).stream().map(n -> computeContract(n).getGuarantee()).collect(Collectors.toList());
-			
-			assume = guarantees.stream().collect(Collectors.joining(" & "));
-
-			List<String> validClauses = new ArrayList<String>();
-			for (String req : guarantees) {
-				for(String clause : req.split("&")) {
-					if (validClause(clause, node.getRequirements()))
-						validClauses.add(clause.trim());
-				}
-			}
-			
-			safe = validClauses.stream().collect(Collectors.joining(" & "));
-
-			if (!node.getRequirements().isEmpty())
-				safe += " & " + node.getRequirements().stream().map(n -> n.getTerm().toString())
-						.collect(Collectors.joining(" & "));
+		if (node.eContainer() instanceof Graph) {
+			return ContractEngine.forGraph((Graph) node.eContainer()).getContract(node);
 		}
+		Map<Node, Contract> contracts = new HashMap<Node, Contract>();
+		ContractEngine.computeContracts(Collections.singletonList(node), contracts, new SymbolTable());
+		return contracts.get(node);
+	}
+
+	/**
+	 * Computes the contract of the node from the already computed contracts of
+	 * its children.
+	 */
+	static Contract computeContract(Node node, List<Contract> childContracts, SymbolTable symbols) {
+		List<ClauseSet> requirements = new ArrayList<ClauseSet>();
+		for (Requirement requirement : node.getRequirements()) {
+			requirements.add(ClauseSet.of(requirement.getTerm()));
+		}
+
+		if (childContracts.isEmpty()) {
+			return new Contract(ClauseSet.TRUE, ClauseSet.union(requirements));
+		}
+
+		// every clause guaranteed by several children is assumed once
+		List<ClauseSet> guarantees = new ArrayList<ClauseSet>();
+		for (Contract contract : childContracts) {
+			guarantees.add(contract.getGuaranteeClauses());
+		}
+		ClauseSet assume = ClauseSet.union(guarantees);
+
+		BitSet requirementMask = symbols.getMask(node.getRequirements());
+		List<ClauseSet> safe = new ArrayList<ClauseSet>();
+		safe.add(assume.filter(clause -> !symbols.getMask(clause).intersects(requirementMask)));
+		safe.addAll(requirements);
 
-		return new Contract(assume, safe);
+		return new Contract(assume, ClauseSet.union(safe));
 	}
 
 	public static boolean validClause(String clause, List<Requirement> req) {
 		// Clause is valid when no requirement overlaps with it (speaking of variables here)
-		return !req.stream().anyMatch(r -> Sets
-				.intersection(GrammarUtil.getVariables(clause), GrammarUtil.getVariables(r.getTerm())).size() > 0);
+		SymbolTable symbols = new SymbolTable();
+		return !symbols.getMask(clause).intersects(symbols.getMask(req));
 	}
 }
@@ -0,0 +1,148 @@
+package de.tubs.skeditor.contracting;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import de.tubs.skeditor.utils.GraphTraversal;
+
+/**
+ * Contract tooltips of all skills of a graph, computed by a background job.
+ * The service is attached to the graph as a content adapter, every change of
+ * the model starts a new revision and schedules the job again. Tooltips are
+ * only served from the snapshot of the current revision, while it is computed
+ * {@link #COMPUTING} is returned, so hovering never waits for the contracts.
+ */
+public class ContractTooltipService extends EContentAdapter {
+
+	public static final String COMPUTING = "computing\u2026";
+
+	// collects a burst of changes into one computation
+	private static final long DELAY = 200;
+
+	private final Graph graph;
+	private final Job job;
+	private long revision;
+
+	// tooltips of the snapshot revision, replaced as a whole
+	private volatile Snapshot snapshot = new Snapshot(-1, Collections.<Node, String>emptyMap());
+
+	private ContractTooltipService(Graph graph) {
+		this.graph = graph;
+		this.job = new Job("Computing contracts") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				compute();
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * @return the service of the graph, it is created, attached and scheduled
+	 *         on first use
+	 */
+	public static synchronized ContractTooltipService forGraph(Graph graph) {
+		for (Adapter adapter : graph.eAdapters()) {
+			if (adapter instanceof ContractTooltipService) {
+				return (ContractTooltipService) adapter;
+			}
+		}
+		ContractTooltipService service = new ContractTooltipService(graph);
+		graph.eAdapters().add(service);
+		service.job.schedule();
+		return service;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ContractTooltipService.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		synchronized (this) {
+			revision++;
+		}
+		job.schedule(DELAY);
+	}
+
+	/**
+	 * @return the tooltip of the node, {@link #COMPUTING} if the contracts of
+	 *         the current revision are not known yet or null if the node has
+	 *         no contract
+	 */
+	public String getToolTip(Node node) {
+		Snapshot current = snapshot;
+		if (current.revision != getRevision()) {
+			return COMPUTING;
+		}
+		return current.toolTips.get(node);
+	}
+
+	private synchronized long getRevision() {
+		return revision;
+	}
+
+	public static String toolTip(Contract contract) {
+		return "Assume:\n" + contract.getAssumption() + "\nSafe:\n" + contract.getGuarantee();
+	}
+
+	/**
+	 * Computes the tooltips of the current revision, the model is read in an
+	 * exclusive transaction of its editing domain.
+	 */
+	private void compute() {
+		Runnable read = () -> {
+			long computed = getRevision();
+			Map<Node, String> toolTips = new IdentityHashMap<Node, String>();
+			try {
+				for (Map.Entry<Node, Contract> entry : ContractEngine.forGraph(graph).getContracts().entrySet()) {
+					toolTips.put(entry.getKey(), toolTip(entry.getValue()));
+				}
+			} catch (GraphTraversal.CycleException e) {
+				// no contracts until the cycle is removed
+				toolTips.clear();
+			}
+			snapshot = new Snapshot(computed, toolTips);
+		};
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(graph);
+		if (domain == null) {
+			read.run();
+			return;
+		}
+		try {
+			domain.runExclusive(read);
+		} catch (InterruptedException e) {
+			job.schedule(DELAY);
+		}
+	}
+
+	private static class Snapshot {
+		final long revision;
+		final Map<Node, String> toolTips;
+
+		Snapshot(long revision, Map<Node, String> toolTips) {
+			this.revision = revision;
+			this.toolTips = toolTips;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package de.tubs.skeditor.contracting;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import SkillGraph.Graph;
+import SkillGraph.Parameter;
+import SkillGraph.Requirement;
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+
+/**
+ * Assigns every variable of a graph a dense id, so sets of variables can be
+ * represented as bit sets. The parameters of the graph get the first ids,
+ * variables that are not declared as parameters are added on first use.
+ */
+public class SymbolTable {
+
+	private final Map<String, Integer> ids = new HashMap<String, Integer>();
+	private final Map<String, BitSet> masks = new HashMap<String, BitSet>();
+	private final Map<Clause, BitSet> clauseMasks = new HashMap<Clause, BitSet>();
+
+	public SymbolTable() {
+	}
+
+	public SymbolTable(Graph graph) {
+		for (Parameter parameter : graph.getParameterList()) {
+			if (parameter.getAbbreviation() != null) {
+				getId(parameter.getAbbreviation());
+			}
+		}
+	}
+
+	public synchronized int getId(String variable) {
+		Integer id = ids.get(variable);
+		if (id == null) {
+			id = ids.size();
+			ids.put(variable, id);
+		}
+		return id;
+	}
+
+	public synchronized int size() {
+		return ids.size();
+	}
+
+	/**
+	 * @return the variables of the term as bit set, the returned set is shared
+	 *         and must not be modified
+	 */
+	public synchronized BitSet getMask(String term) {
+		BitSet mask = masks.get(term);
+		if (mask == null) {
+			mask = new BitSet();
+			for (String variable : GrammarUtil.getVariables(term)) {
+				mask.set(getId(variable));
+			}
+			masks.put(term, mask);
+		}
+		return mask;
+	}
+
+	/**
+	 * @return the variables of the clause as bit set, the returned set is
+	 *         shared and must not be modified
+	 */
+	public synchronized BitSet getMask(Clause clause) {
+		BitSet mask = clauseMasks.get(clause);
+		if (mask == null) {
+			mask = new BitSet();
+			for (String variable : clause.getVariables()) {
+				mask.set(getId(variable));
+			}
+			clauseMasks.put(clause, mask);
+		}
+		return mask;
+	}
+
+	/**
+	 * @return the union of the variables of all requirements
+	 */
+	public BitSet getMask(Collection<Requirement> requirements) {
+		BitSet mask = new BitSet();
+		for (Requirement requirement : requirements) {
+			mask.or(getMask(requirement.getTerm()));
+		}
+		return mask;
+	}
+
+	/**
+	 * Forgets the cached masks of the terms, the ids stay valid.
+	 */
+	public synchronized void clearMasks() {
+		masks.clear();
+		clauseMasks.clear();
+	}
+}
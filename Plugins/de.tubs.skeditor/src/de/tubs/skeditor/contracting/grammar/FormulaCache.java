@@ -0,0 +1,83 @@
+package de.tubs.skeditor.contracting.grammar;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Bounded, thread safe cache of parsed formulas. Every distinct term is parsed
+ * once and shared until it is evicted, the least recently used terms are
+ * evicted first. Only the data extracted from the parse tree is kept, the tree
+ * and its tokens are dropped after parsing.
+ */
+public class FormulaCache {
+
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private static final FormulaCache DEFAULT = new FormulaCache(DEFAULT_CAPACITY);
+
+	private final LoadingCache<String, ParsedFormula> formulas;
+
+	public FormulaCache(int capacity) {
+		formulas = CacheBuilder.newBuilder().maximumSize(capacity).build(new CacheLoader<String, ParsedFormula>() {
+			@Override
+			public ParsedFormula load(String term) {
+				return parse(term);
+			}
+		});
+	}
+
+	public static FormulaCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return the parsed formula, parsed on first request
+	 */
+	public ParsedFormula get(String term) {
+		return formulas.getUnchecked(term);
+	}
+
+	public void clear() {
+		formulas.invalidateAll();
+	}
+
+	public long size() {
+		return formulas.size();
+	}
+
+	private static ParsedFormula parse(String term) {
+		VariableListener listener = new VariableListener();
+		ParseTreeWalker.DEFAULT.walk(listener, FormulaParser.get().parseFormula(term, null));
+
+		return new ParsedFormula(term, listener.getVariables());
+	}
+
+	/**
+	 * A term together with the variables it uses. Instances are shared and
+	 * must not be modified.
+	 */
+	public static class ParsedFormula {
+		private final String term;
+		private final Set<String> variables;
+
+		ParsedFormula(String term, Set<String> variables) {
+			this.term = term;
+			this.variables = Collections.unmodifiableSet(new HashSet<String>(variables));
+		}
+
+		public String getTerm() {
+			return term;
+		}
+
+		public Set<String> getVariables() {
+			return variables;
+		}
+	}
+}
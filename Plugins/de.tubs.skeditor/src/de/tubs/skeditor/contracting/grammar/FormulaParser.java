@@ -0,0 +1,116 @@
+package de.tubs.skeditor.contracting.grammar;
+
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * Parses formulas of the fol grammar in two stages: the fast SLL prediction
+ * mode with a bailing error strategy is tried first, only if it fails the
+ * input is tokenized and parsed again in full LL mode, which reports the
+ * syntax errors exactly like a single LL parse. A successful SLL parse is
+ * always a valid parse, so for correct formulas the second stage is almost
+ * never needed.
+ * <p>
+ * Every thread reuses its own lexer and parser. The DFA built during
+ * prediction is shared by all parser instances and is never cleared, so it
+ * stays warm across calls.
+ */
+public class FormulaParser {
+
+	private static final ThreadLocal<FormulaParser> PARSERS = ThreadLocal.withInitial(FormulaParser::new);
+
+	private final folLexer lexer = new folLexer(CharStreams.fromString(""));
+	private final CommonTokenStream tokens = new CommonTokenStream(lexer);
+	private final folParser parser = new folParser(tokens);
+
+	private FormulaParser() {
+	}
+
+	/**
+	 * @return the parser of the current thread
+	 */
+	public static FormulaParser get() {
+		return PARSERS.get();
+	}
+
+	/**
+	 * Parses a complete condition.
+	 *
+	 * @param listener
+	 *            receives the syntax errors of the lexer and the parser, may
+	 *            be null
+	 */
+	public folParser.ConditionContext parseCondition(String text, ANTLRErrorListener listener) {
+		return parse(text, folParser::condition, listener);
+	}
+
+	/**
+	 * Parses a formula, trailing input is ignored.
+	 *
+	 * @param listener
+	 *            receives the syntax errors of the lexer and the parser, may
+	 *            be null
+	 */
+	public folParser.FormulaContext parseFormula(String text, ANTLRErrorListener listener) {
+		return parse(text, folParser::formula, listener);
+	}
+
+	private <T extends ParserRuleContext> T parse(String text, Function<folParser, T> rule,
+			ANTLRErrorListener listener) {
+		CodePointCharStream input = CharStreams.fromString(text);
+		LexerErrors lexerErrors = new LexerErrors();
+		lexer.setInputStream(input);
+		lexer.removeErrorListeners();
+		lexer.addErrorListener(lexerErrors);
+		tokens.setTokenSource(lexer);
+
+		parser.setTokenStream(tokens);
+		parser.removeErrorListeners();
+		parser.setErrorHandler(new BailErrorStrategy());
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		try {
+			T tree = rule.apply(parser);
+			if (!lexerErrors.found) {
+				return tree;
+			}
+		} catch (ParseCancellationException e) {
+			// parsed again below
+		}
+
+		// the errors are reported in the order of the input
+		input.seek(0);
+		lexer.setInputStream(input);
+		lexer.removeErrorListeners();
+		tokens.setTokenSource(lexer);
+		parser.setTokenStream(tokens);
+		if (listener != null) {
+			lexer.addErrorListener(listener);
+			parser.addErrorListener(listener);
+		}
+		parser.setErrorHandler(new DefaultErrorStrategy());
+		parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+		return rule.apply(parser);
+	}
+
+	private static class LexerErrors extends BaseErrorListener {
+		boolean found;
+
+		@Override
+		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+				String msg, RecognitionException e) {
+			found = true;
+		}
+	}
+}
@@ -1,45 +1,44 @@
 package de.tubs.skeditor.contracting.grammar;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.antlr.v4.runtime.CharStreams;
 
-public class GrammarUtil {
-	public static Set<String> getVariables(String cond) {
-		folLexer lexer = new folLexer(CharStreams.fromString(cond));
-		folParser parser = new folParser(new CommonTokenStream(lexer));
-
-		ParseTree tree = parser.formula();
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
-		VariableListener listener = new VariableListener();
+public class GrammarUtil {
 
-		ParseTreeWalker walker = new ParseTreeWalker();
-		walker.walk(listener, tree);
+	private static final LoadingCache<String, List<SyntaxError>> SYNTAX_ERRORS = CacheBuilder.newBuilder()
+			.maximumSize(FormulaCache.DEFAULT_CAPACITY).build(new CacheLoader<String, List<SyntaxError>>() {
+				@Override
+				public List<SyntaxError> load(String text) {
+					return Collections.unmodifiableList(tryToParse(text));
+				}
+			});
+
+	/**
+	 * @return the variables of the condition, the returned set is shared and
+	 *         must not be modified
+	 */
+	public static Set<String> getVariables(String cond) {
+		return FormulaCache.getDefault().get(cond).getVariables();
+	}
 
-		return listener.getVariables();
+	/**
+	 * @return the syntax errors of the condition, every distinct text is
+	 *         parsed once and the returned list is shared
+	 */
+	public static List<SyntaxError> getSyntaxErrors(String text) {
+		return SYNTAX_ERRORS.getUnchecked(text == null ? "" : text);
 	}
 
 	public static List<SyntaxError> tryToParse(String text) throws ParseCancellationException {
-		folLexer lexer = new folLexer(CharStreams.fromString(text));
-		
 		SyntaxErrorListener errorListener = new SyntaxErrorListener();
-		
-		lexer.removeErrorListeners();
-		lexer.addErrorListener(errorListener);
-
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-
-		folParser parser = new folParser(tokens);
-		parser.removeErrorListeners();
-		parser.addErrorListener(errorListener);
-
-		ParseTree tree = parser.condition();
-		
+		FormulaParser.get().parseCondition(text, errorListener);
 		return errorListener.getSyntaxErrors();
 	}
 
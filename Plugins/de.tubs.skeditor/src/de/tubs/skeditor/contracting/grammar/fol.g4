@@ -1,6 +1,11 @@
 /*
 * FOL with arithmetic
 *
+* Expressions are parsed by precedence climbing, from the strongest to the
+* weakest binding operators: ^, * and /, + and -, comparisons, conjunction,
+* disjunction, implication and biconditional. The alternatives of the other
+* rules are left-factored, so most decisions only need the next one or two
+* tokens.
 */
 
 grammar fol;
@@ -8,21 +13,18 @@ grammar fol;
 condition
 :
 	formula EOF
-	
 ;
 
 formula
 :
-	'"' formula '"' 
-	| tupelformula
-	| connectiveformula
+	'"' formula '"'
 	| quantifier
 	| operatorformula
 	| pred_constant LPAREN term
-	
 	(
 		';' term
 	)* RPAREN
+	| expression
 ;
 
 quantifier
@@ -38,176 +40,103 @@ quantifier
 
 operatorformula
 :
-	OPERATOR TYPE? IDENTIFIER
+	OPERATOR TYPE? IDENTIFIER ';'
 	(
-		';' term ';'  term
-	)? ';' formula
-;
-
-connectiveformula
-:
-	(
-		compareformula
-		(
-			connectoperator compareformula
-		)*
-	)
-	
-;
- 
-tupelformula
-:
-	(
-		tupel
-		| functioncall
-	) (EQUAL | NEQUAL)
-	(
-		tupel
-		| functioncall
+		term ';' term ';' formula
+		| formula
 	)
 ;
 
-compareformula
+expression
 :
-	(
-		summformula
-		(
-			compoperator summformula
-		)*
-	)
+	notterm
+	| expression POWER expression
+	| expression multoperator expression
+	| expression addoperator expression
+	| expression compoperator expression
+	| expression CONJ expression
+	| expression DISJ expression
+	| expression IMPL expression
+	| expression BICOND expression
 ;
 
-tupel
+notterm
 :
-	LPAREN term
-	(
-		',' term
-	)* RPAREN
+	NOT? term
 ;
 
-summformula
+term
 :
+	reference
+	| NUMBER
+	| TRUE
+	| FALSE
+	| STRING
+	| LPAREN
 	(
-		faktorformula
+		MINUS term
+		| formula
 		(
-			addoperator faktorformula
+			',' formula
 		)*
-	)
+	) RPAREN
 ;
 
-faktorformula
+reference
 :
+	COMPONENT CODEWORD
 	(
-		powerformula
-		(
-			multoperator powerformula
-		)*
+		IDENTIFIER
+		| variable index+
 	)
-;
-
-powerformula
-:
+	| IDENTIFIER
 	(
-		notterm
+		CODEWORD
 		(
-			POWER notterm
-		)*
-	)
-;
-
-notterm
-:
-	term
-	|
-	(
-		NOT term
+			IDENTIFIER
+			| array
+		)
+		| '.'
+		(
+			functionname arguments
+			| path
+		)
 	)
+	| variable index*
 ;
 
-term
+path
 :
-	compproperty
-	| portproperty
-	| port
-	| functioncall
-	| array
-	| variable
-	| NUMBER
-	|
 	(
-		LPAREN MINUS
-		(
-			term
-		) RPAREN
-	)
-	| TRUE
-	| FALSE
-	| STRING
-	|
-	(
-		LPAREN term RPAREN
-	)
-	|
+		IDENTIFIER '.'
+	)*
 	(
-		LPAREN formula RPAREN
+		IDENTIFIER
+		| variable index+
 	)
 ;
 
 array
 :
 	(
-		(
-			COMPONENT CODEWORD
-		)
+		COMPONENT CODEWORD
 		|
 		(
-			IDENTIFIER '.' 
+			IDENTIFIER '.'
 		)+
-	)? variable
-	(
-		'['
-		(
-			term
-			| formula
-		) ']'
-	)+
+	)? variable index+
 ;
 
-compproperty
+index
 :
-	COMPONENT CODEWORD IDENTIFIER
+	'[' formula ']'
 ;
 
-portproperty
+arguments
 :
-	IDENTIFIER CODEWORD
+	LPAREN formula
 	(
-		IDENTIFIER
-		| array
-	)
-;
-
-port
-:
-	IDENTIFIER
-	(
-		'.' IDENTIFIER
-	)+
-;
-
-functioncall
-:
-	IDENTIFIER '.' functionname LPAREN
-	(
-		term
-		| formula
-	)
-	(
-		','
-		(
-			term
-			| formula
-		)
+		',' formula
 	)* RPAREN
 ;
 
@@ -238,14 +167,6 @@ addoperator
 	| ADD
 ;
 
-connectoperator
-:
-	CONJ
-	| DISJ
-	| IMPL
-	| BICOND
-;
-
 pred_constant
 :
 	'_' CHARACTER*
@@ -48,75 +48,15 @@ public interface folListener extends ParseTreeListener {
 	 */
 	void exitOperatorformula(folParser.OperatorformulaContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#connectiveformula}.
+	 * Enter a parse tree produced by {@link folParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterConnectiveformula(folParser.ConnectiveformulaContext ctx);
+	void enterExpression(folParser.ExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#connectiveformula}.
+	 * Exit a parse tree produced by {@link folParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitConnectiveformula(folParser.ConnectiveformulaContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#tupelformula}.
-	 * @param ctx the parse tree
-	 */
-	void enterTupelformula(folParser.TupelformulaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#tupelformula}.
-	 * @param ctx the parse tree
-	 */
-	void exitTupelformula(folParser.TupelformulaContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#compareformula}.
-	 * @param ctx the parse tree
-	 */
-	void enterCompareformula(folParser.CompareformulaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#compareformula}.
-	 * @param ctx the parse tree
-	 */
-	void exitCompareformula(folParser.CompareformulaContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#tupel}.
-	 * @param ctx the parse tree
-	 */
-	void enterTupel(folParser.TupelContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#tupel}.
-	 * @param ctx the parse tree
-	 */
-	void exitTupel(folParser.TupelContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#summformula}.
-	 * @param ctx the parse tree
-	 */
-	void enterSummformula(folParser.SummformulaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#summformula}.
-	 * @param ctx the parse tree
-	 */
-	void exitSummformula(folParser.SummformulaContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#faktorformula}.
-	 * @param ctx the parse tree
-	 */
-	void enterFaktorformula(folParser.FaktorformulaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#faktorformula}.
-	 * @param ctx the parse tree
-	 */
-	void exitFaktorformula(folParser.FaktorformulaContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#powerformula}.
-	 * @param ctx the parse tree
-	 */
-	void enterPowerformula(folParser.PowerformulaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#powerformula}.
-	 * @param ctx the parse tree
-	 */
-	void exitPowerformula(folParser.PowerformulaContext ctx);
+	void exitExpression(folParser.ExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link folParser#notterm}.
 	 * @param ctx the parse tree
@@ -138,55 +78,55 @@ public interface folListener extends ParseTreeListener {
 	 */
 	void exitTerm(folParser.TermContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#array}.
+	 * Enter a parse tree produced by {@link folParser#reference}.
 	 * @param ctx the parse tree
 	 */
-	void enterArray(folParser.ArrayContext ctx);
+	void enterReference(folParser.ReferenceContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#array}.
+	 * Exit a parse tree produced by {@link folParser#reference}.
 	 * @param ctx the parse tree
 	 */
-	void exitArray(folParser.ArrayContext ctx);
+	void exitReference(folParser.ReferenceContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#compproperty}.
+	 * Enter a parse tree produced by {@link folParser#path}.
 	 * @param ctx the parse tree
 	 */
-	void enterCompproperty(folParser.ComppropertyContext ctx);
+	void enterPath(folParser.PathContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#compproperty}.
+	 * Exit a parse tree produced by {@link folParser#path}.
 	 * @param ctx the parse tree
 	 */
-	void exitCompproperty(folParser.ComppropertyContext ctx);
+	void exitPath(folParser.PathContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#portproperty}.
+	 * Enter a parse tree produced by {@link folParser#array}.
 	 * @param ctx the parse tree
 	 */
-	void enterPortproperty(folParser.PortpropertyContext ctx);
+	void enterArray(folParser.ArrayContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#portproperty}.
+	 * Exit a parse tree produced by {@link folParser#array}.
 	 * @param ctx the parse tree
 	 */
-	void exitPortproperty(folParser.PortpropertyContext ctx);
+	void exitArray(folParser.ArrayContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#port}.
+	 * Enter a parse tree produced by {@link folParser#index}.
 	 * @param ctx the parse tree
 	 */
-	void enterPort(folParser.PortContext ctx);
+	void enterIndex(folParser.IndexContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#port}.
+	 * Exit a parse tree produced by {@link folParser#index}.
 	 * @param ctx the parse tree
 	 */
-	void exitPort(folParser.PortContext ctx);
+	void exitIndex(folParser.IndexContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link folParser#functioncall}.
+	 * Enter a parse tree produced by {@link folParser#arguments}.
 	 * @param ctx the parse tree
 	 */
-	void enterFunctioncall(folParser.FunctioncallContext ctx);
+	void enterArguments(folParser.ArgumentsContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link folParser#functioncall}.
+	 * Exit a parse tree produced by {@link folParser#arguments}.
 	 * @param ctx the parse tree
 	 */
-	void exitFunctioncall(folParser.FunctioncallContext ctx);
+	void exitArguments(folParser.ArgumentsContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link folParser#functionname}.
 	 * @param ctx the parse tree
@@ -227,16 +167,6 @@ public interface folListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitAddoperator(folParser.AddoperatorContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link folParser#connectoperator}.
-	 * @param ctx the parse tree
-	 */
-	void enterConnectoperator(folParser.ConnectoperatorContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link folParser#connectoperator}.
-	 * @param ctx the parse tree
-	 */
-	void exitConnectoperator(folParser.ConnectoperatorContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link folParser#pred_constant}.
 	 * @param ctx the parse tree
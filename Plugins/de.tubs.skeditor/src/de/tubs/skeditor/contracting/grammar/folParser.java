@@ -25,18 +25,15 @@ public class folParser extends Parser {
 		GREATEREQ=37, WHITESPACE=38;
 	public static final int
 		RULE_condition = 0, RULE_formula = 1, RULE_quantifier = 2, RULE_operatorformula = 3, 
-		RULE_connectiveformula = 4, RULE_tupelformula = 5, RULE_compareformula = 6, 
-		RULE_tupel = 7, RULE_summformula = 8, RULE_faktorformula = 9, RULE_powerformula = 10, 
-		RULE_notterm = 11, RULE_term = 12, RULE_array = 13, RULE_compproperty = 14, 
-		RULE_portproperty = 15, RULE_port = 16, RULE_functioncall = 17, RULE_functionname = 18, 
-		RULE_compoperator = 19, RULE_multoperator = 20, RULE_addoperator = 21, 
-		RULE_connectoperator = 22, RULE_pred_constant = 23, RULE_variable = 24;
+		RULE_expression = 4, RULE_notterm = 5, RULE_term = 6, RULE_reference = 7, 
+		RULE_path = 8, RULE_array = 9, RULE_index = 10, RULE_arguments = 11, RULE_functionname = 12, 
+		RULE_compoperator = 13, RULE_multoperator = 14, RULE_addoperator = 15, 
+		RULE_pred_constant = 16, RULE_variable = 17;
 	public static final String[] ruleNames = {
-		"condition", "formula", "quantifier", "operatorformula", "connectiveformula", 
-		"tupelformula", "compareformula", "tupel", "summformula", "faktorformula", 
-		"powerformula", "notterm", "term", "array", "compproperty", "portproperty", 
-		"port", "functioncall", "functionname", "compoperator", "multoperator", 
-		"addoperator", "connectoperator", "pred_constant", "variable"
+		"condition", "formula", "quantifier", "operatorformula", "expression", 
+		"notterm", "term", "reference", "path", "array", "index", "arguments", 
+		"functionname", "compoperator", "multoperator", "addoperator", "pred_constant", 
+		"variable"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
@@ -126,9 +123,9 @@ public class folParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(50);
+			setState(36);
 			formula();
-			setState(51);
+			setState(37);
 			match(EOF);
 			}
 		}
@@ -147,12 +144,6 @@ public class folParser extends Parser {
 		public FormulaContext formula() {
 			return getRuleContext(FormulaContext.class,0);
 		}
-		public TupelformulaContext tupelformula() {
-			return getRuleContext(TupelformulaContext.class,0);
-		}
-		public ConnectiveformulaContext connectiveformula() {
-			return getRuleContext(ConnectiveformulaContext.class,0);
-		}
 		public QuantifierContext quantifier() {
 			return getRuleContext(QuantifierContext.class,0);
 		}
@@ -170,6 +161,9 @@ public class folParser extends Parser {
 			return getRuleContext(TermContext.class,i);
 		}
 		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
 		public FormulaContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -189,77 +183,79 @@ public class folParser extends Parser {
 		enterRule(_localctx, 2, RULE_formula);
 		int _la;
 		try {
-			setState(73);
+			setState(58);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case T__0:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(53);
+				setState(39);
 				match(T__0);
-				setState(54);
+				setState(40);
 				formula();
-				setState(55);
+				setState(41);
 				match(T__0);
 				}
 				break;
-			case 2:
+			case QUANTIFER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(57);
-				tupelformula();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(58);
-				connectiveformula();
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(59);
+				setState(43);
 				quantifier();
 				}
 				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
+			case OPERATOR:
+				enterOuterAlt(_localctx, 3);
 				{
-				setState(60);
+				setState(44);
 				operatorformula();
 				}
 				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
+			case T__6:
+				enterOuterAlt(_localctx, 4);
 				{
-				setState(61);
+				setState(45);
 				pred_constant();
-				setState(62);
+				setState(46);
 				match(LPAREN);
-				setState(63);
+				setState(47);
 				term();
-				setState(68);
+				setState(52);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__1) {
 					{
 					{
-					setState(64);
+					setState(48);
 					match(T__1);
-					setState(65);
+					setState(49);
 					term();
 					}
 					}
-					setState(70);
+					setState(54);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(71);
+				setState(55);
 				match(RPAREN);
 				}
 				break;
+			case TRUE:
+			case FALSE:
+			case COMPONENT:
+			case STRING:
+			case IDENTIFIER:
+			case NUMBER:
+			case LPAREN:
+			case NOT:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(57);
+				expression(0);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -311,63 +307,63 @@ public class folParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(75);
+			setState(60);
 			match(QUANTIFER);
-			setState(77);
+			setState(62);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==TYPE) {
 				{
-				setState(76);
+				setState(61);
 				match(TYPE);
 				}
 			}
 
-			setState(79);
+			setState(64);
 			match(IDENTIFIER);
-			setState(87);
+			setState(72);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(80);
+					setState(65);
 					match(T__1);
-					setState(82);
+					setState(67);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==TYPE) {
 						{
-						setState(81);
+						setState(66);
 						match(TYPE);
 						}
 					}
 
-					setState(84);
+					setState(69);
 					match(IDENTIFIER);
 					}
 					} 
 				}
-				setState(89);
+				setState(74);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
 			}
-			setState(92);
+			setState(77);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				{
-				setState(90);
+				setState(75);
 				match(T__1);
-				setState(91);
+				setState(76);
 				formula();
 				}
 				break;
 			}
-			setState(94);
+			setState(79);
 			match(T__1);
-			setState(95);
+			setState(80);
 			formula();
 			}
 		}
@@ -385,16 +381,16 @@ public class folParser extends Parser {
 	public static class OperatorformulaContext extends ParserRuleContext {
 		public TerminalNode OPERATOR() { return getToken(folParser.OPERATOR, 0); }
 		public TerminalNode IDENTIFIER() { return getToken(folParser.IDENTIFIER, 0); }
-		public FormulaContext formula() {
-			return getRuleContext(FormulaContext.class,0);
-		}
-		public TerminalNode TYPE() { return getToken(folParser.TYPE, 0); }
 		public List<TermContext> term() {
 			return getRuleContexts(TermContext.class);
 		}
 		public TermContext term(int i) {
 			return getRuleContext(TermContext.class,i);
 		}
+		public FormulaContext formula() {
+			return getRuleContext(FormulaContext.class,0);
+		}
+		public TerminalNode TYPE() { return getToken(folParser.TYPE, 0); }
 		public OperatorformulaContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -416,40 +412,46 @@ public class folParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(97);
+			setState(82);
 			match(OPERATOR);
-			setState(99);
+			setState(84);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==TYPE) {
 				{
-				setState(98);
+				setState(83);
 				match(TYPE);
 				}
 			}
 
-			setState(101);
+			setState(86);
 			match(IDENTIFIER);
-			setState(107);
+			setState(87);
+			match(T__1);
+			setState(95);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
 			case 1:
 				{
-				setState(102);
-				match(T__1);
-				setState(103);
+				setState(88);
 				term();
-				setState(104);
+				setState(89);
 				match(T__1);
-				setState(105);
+				setState(90);
 				term();
+				setState(91);
+				match(T__1);
+				setState(92);
+				formula();
+				}
+				break;
+			case 2:
+				{
+				setState(94);
+				formula();
 				}
 				break;
 			}
-			setState(109);
-			match(T__1);
-			setState(110);
-			formula();
 			}
 		}
 		catch (RecognitionException re) {
@@ -463,59 +465,177 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ConnectiveformulaContext extends ParserRuleContext {
-		public List<CompareformulaContext> compareformula() {
-			return getRuleContexts(CompareformulaContext.class);
+	public static class ExpressionContext extends ParserRuleContext {
+		public NottermContext notterm() {
+			return getRuleContext(NottermContext.class,0);
 		}
-		public CompareformulaContext compareformula(int i) {
-			return getRuleContext(CompareformulaContext.class,i);
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public List<ConnectoperatorContext> connectoperator() {
-			return getRuleContexts(ConnectoperatorContext.class);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		public ConnectoperatorContext connectoperator(int i) {
-			return getRuleContext(ConnectoperatorContext.class,i);
+		public TerminalNode POWER() { return getToken(folParser.POWER, 0); }
+		public MultoperatorContext multoperator() {
+			return getRuleContext(MultoperatorContext.class,0);
 		}
-		public ConnectiveformulaContext(ParserRuleContext parent, int invokingState) {
+		public AddoperatorContext addoperator() {
+			return getRuleContext(AddoperatorContext.class,0);
+		}
+		public CompoperatorContext compoperator() {
+			return getRuleContext(CompoperatorContext.class,0);
+		}
+		public TerminalNode CONJ() { return getToken(folParser.CONJ, 0); }
+		public TerminalNode DISJ() { return getToken(folParser.DISJ, 0); }
+		public TerminalNode IMPL() { return getToken(folParser.IMPL, 0); }
+		public TerminalNode BICOND() { return getToken(folParser.BICOND, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_connectiveformula; }
+		@Override public int getRuleIndex() { return RULE_expression; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterConnectiveformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitConnectiveformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitExpression(this);
 		}
 	}
 
-	public final ConnectiveformulaContext connectiveformula() throws RecognitionException {
-		ConnectiveformulaContext _localctx = new ConnectiveformulaContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_connectiveformula);
-		int _la;
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 8;
+		enterRecursionRule(_localctx, 8, RULE_expression, _p);
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(112);
-			compareformula();
-			setState(118);
+			setState(98);
+			notterm();
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(129);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CONJ) | (1L << DISJ) | (1L << IMPL) | (1L << BICOND))) != 0)) {
-				{
-				{
-				setState(113);
-				connectoperator();
-				setState(114);
-				compareformula();
-				}
+			_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(127);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(100);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(101);
+						match(POWER);
+						setState(102);
+						expression(9);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(103);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(104);
+						multoperator();
+						setState(105);
+						expression(8);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(107);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(108);
+						addoperator();
+						setState(109);
+						expression(7);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(111);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(112);
+						compoperator();
+						setState(113);
+						expression(6);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(115);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(116);
+						match(CONJ);
+						setState(117);
+						expression(5);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(118);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(119);
+						match(DISJ);
+						setState(120);
+						expression(4);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(121);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(122);
+						match(IMPL);
+						setState(123);
+						expression(3);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionContext(_parentctx, _parentState);
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(124);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(125);
+						match(BICOND);
+						setState(126);
+						expression(2);
+						}
+						break;
+					}
+					} 
 				}
-				setState(120);
+				setState(131);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
+				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 			}
 			}
 		}
@@ -525,93 +645,49 @@ public class folParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
 
-	public static class TupelformulaContext extends ParserRuleContext {
-		public TerminalNode EQUAL() { return getToken(folParser.EQUAL, 0); }
-		public TerminalNode NEQUAL() { return getToken(folParser.NEQUAL, 0); }
-		public List<TupelContext> tupel() {
-			return getRuleContexts(TupelContext.class);
-		}
-		public TupelContext tupel(int i) {
-			return getRuleContext(TupelContext.class,i);
-		}
-		public List<FunctioncallContext> functioncall() {
-			return getRuleContexts(FunctioncallContext.class);
-		}
-		public FunctioncallContext functioncall(int i) {
-			return getRuleContext(FunctioncallContext.class,i);
+	public static class NottermContext extends ParserRuleContext {
+		public TermContext term() {
+			return getRuleContext(TermContext.class,0);
 		}
-		public TupelformulaContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode NOT() { return getToken(folParser.NOT, 0); }
+		public NottermContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_tupelformula; }
+		@Override public int getRuleIndex() { return RULE_notterm; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterTupelformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterNotterm(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitTupelformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitNotterm(this);
 		}
 	}
 
-	public final TupelformulaContext tupelformula() throws RecognitionException {
-		TupelformulaContext _localctx = new TupelformulaContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_tupelformula);
+	public final NottermContext notterm() throws RecognitionException {
+		NottermContext _localctx = new NottermContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_notterm);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(123);
+			setState(133);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case LPAREN:
-				{
-				setState(121);
-				tupel();
-				}
-				break;
-			case IDENTIFIER:
-				{
-				setState(122);
-				functioncall();
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-			setState(125);
 			_la = _input.LA(1);
-			if ( !(_la==EQUAL || _la==NEQUAL) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			setState(128);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case LPAREN:
-				{
-				setState(126);
-				tupel();
-				}
-				break;
-			case IDENTIFIER:
+			if (_la==NOT) {
 				{
-				setState(127);
-				functioncall();
+				setState(132);
+				match(NOT);
 				}
-				break;
-			default:
-				throw new NoViableAltException(this);
 			}
+
+			setState(135);
+			term();
 			}
 		}
 		catch (RecognitionException re) {
@@ -625,125 +701,142 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class CompareformulaContext extends ParserRuleContext {
-		public List<SummformulaContext> summformula() {
-			return getRuleContexts(SummformulaContext.class);
+	public static class TermContext extends ParserRuleContext {
+		public ReferenceContext reference() {
+			return getRuleContext(ReferenceContext.class,0);
 		}
-		public SummformulaContext summformula(int i) {
-			return getRuleContext(SummformulaContext.class,i);
+		public TerminalNode NUMBER() { return getToken(folParser.NUMBER, 0); }
+		public TerminalNode TRUE() { return getToken(folParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(folParser.FALSE, 0); }
+		public TerminalNode STRING() { return getToken(folParser.STRING, 0); }
+		public TerminalNode LPAREN() { return getToken(folParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
+		public TerminalNode MINUS() { return getToken(folParser.MINUS, 0); }
+		public TermContext term() {
+			return getRuleContext(TermContext.class,0);
 		}
-		public List<CompoperatorContext> compoperator() {
-			return getRuleContexts(CompoperatorContext.class);
+		public List<FormulaContext> formula() {
+			return getRuleContexts(FormulaContext.class);
 		}
-		public CompoperatorContext compoperator(int i) {
-			return getRuleContext(CompoperatorContext.class,i);
+		public FormulaContext formula(int i) {
+			return getRuleContext(FormulaContext.class,i);
 		}
-		public CompareformulaContext(ParserRuleContext parent, int invokingState) {
+		public TermContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_compareformula; }
+		@Override public int getRuleIndex() { return RULE_term; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterCompareformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterTerm(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitCompareformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitTerm(this);
 		}
 	}
 
-	public final CompareformulaContext compareformula() throws RecognitionException {
-		CompareformulaContext _localctx = new CompareformulaContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_compareformula);
+	public final TermContext term() throws RecognitionException {
+		TermContext _localctx = new TermContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_term);
 		int _la;
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			{
-			setState(130);
-			summformula();
-			setState(136);
+			setState(157);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQUAL) | (1L << NEQUAL) | (1L << GREATER) | (1L << SMALLER) | (1L << SMALLEREQ) | (1L << GREATEREQ))) != 0)) {
+			switch (_input.LA(1)) {
+			case COMPONENT:
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 1);
 				{
+				setState(137);
+				reference();
+				}
+				break;
+			case NUMBER:
+				enterOuterAlt(_localctx, 2);
 				{
-				setState(131);
-				compoperator();
-				setState(132);
-				summformula();
+				setState(138);
+				match(NUMBER);
+				}
+				break;
+			case TRUE:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(139);
+				match(TRUE);
 				}
+				break;
+			case FALSE:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(140);
+				match(FALSE);
 				}
-				setState(138);
+				break;
+			case STRING:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(141);
+				match(STRING);
+				}
+				break;
+			case LPAREN:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(142);
+				match(LPAREN);
+				setState(153);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class TupelContext extends ParserRuleContext {
-		public TerminalNode LPAREN() { return getToken(folParser.LPAREN, 0); }
-		public List<TermContext> term() {
-			return getRuleContexts(TermContext.class);
-		}
-		public TermContext term(int i) {
-			return getRuleContext(TermContext.class,i);
-		}
-		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
-		public TupelContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_tupel; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterTupel(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitTupel(this);
-		}
-	}
-
-	public final TupelContext tupel() throws RecognitionException {
-		TupelContext _localctx = new TupelContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_tupel);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(139);
-			match(LPAREN);
-			setState(140);
-			term();
-			setState(145);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
-				{
-				setState(141);
-				match(T__2);
-				setState(142);
-				term();
+				switch (_input.LA(1)) {
+				case MINUS:
+					{
+					setState(143);
+					match(MINUS);
+					setState(144);
+					term();
+					}
+					break;
+				case T__0:
+				case T__6:
+				case TRUE:
+				case FALSE:
+				case QUANTIFER:
+				case OPERATOR:
+				case COMPONENT:
+				case STRING:
+				case IDENTIFIER:
+				case NUMBER:
+				case LPAREN:
+				case NOT:
+					{
+					setState(145);
+					formula();
+					setState(150);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==T__2) {
+						{
+						{
+						setState(146);
+						match(T__2);
+						setState(147);
+						formula();
+						}
+						}
+						setState(152);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
+				setState(155);
+				match(RPAREN);
 				}
-				setState(147);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(148);
-			match(RPAREN);
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -757,257 +850,183 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class SummformulaContext extends ParserRuleContext {
-		public List<FaktorformulaContext> faktorformula() {
-			return getRuleContexts(FaktorformulaContext.class);
-		}
-		public FaktorformulaContext faktorformula(int i) {
-			return getRuleContext(FaktorformulaContext.class,i);
-		}
-		public List<AddoperatorContext> addoperator() {
-			return getRuleContexts(AddoperatorContext.class);
-		}
-		public AddoperatorContext addoperator(int i) {
-			return getRuleContext(AddoperatorContext.class,i);
-		}
-		public SummformulaContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_summformula; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterSummformula(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitSummformula(this);
+	public static class ReferenceContext extends ParserRuleContext {
+		public TerminalNode COMPONENT() { return getToken(folParser.COMPONENT, 0); }
+		public TerminalNode CODEWORD() { return getToken(folParser.CODEWORD, 0); }
+		public List<TerminalNode> IDENTIFIER() { return getTokens(folParser.IDENTIFIER); }
+		public TerminalNode IDENTIFIER(int i) {
+			return getToken(folParser.IDENTIFIER, i);
 		}
-	}
-
-	public final SummformulaContext summformula() throws RecognitionException {
-		SummformulaContext _localctx = new SummformulaContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_summformula);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			{
-			setState(150);
-			faktorformula();
-			setState(156);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==ADD || _la==MINUS) {
-				{
-				{
-				setState(151);
-				addoperator();
-				setState(152);
-				faktorformula();
-				}
-				}
-				setState(158);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-			}
+		public VariableContext variable() {
+			return getRuleContext(VariableContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public List<IndexContext> index() {
+			return getRuleContexts(IndexContext.class);
 		}
-		finally {
-			exitRule();
+		public IndexContext index(int i) {
+			return getRuleContext(IndexContext.class,i);
 		}
-		return _localctx;
-	}
-
-	public static class FaktorformulaContext extends ParserRuleContext {
-		public List<PowerformulaContext> powerformula() {
-			return getRuleContexts(PowerformulaContext.class);
+		public ArrayContext array() {
+			return getRuleContext(ArrayContext.class,0);
 		}
-		public PowerformulaContext powerformula(int i) {
-			return getRuleContext(PowerformulaContext.class,i);
+		public FunctionnameContext functionname() {
+			return getRuleContext(FunctionnameContext.class,0);
 		}
-		public List<MultoperatorContext> multoperator() {
-			return getRuleContexts(MultoperatorContext.class);
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
 		}
-		public MultoperatorContext multoperator(int i) {
-			return getRuleContext(MultoperatorContext.class,i);
+		public PathContext path() {
+			return getRuleContext(PathContext.class,0);
 		}
-		public FaktorformulaContext(ParserRuleContext parent, int invokingState) {
+		public ReferenceContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_faktorformula; }
+		@Override public int getRuleIndex() { return RULE_reference; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterFaktorformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterReference(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitFaktorformula(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitReference(this);
 		}
 	}
 
-	public final FaktorformulaContext faktorformula() throws RecognitionException {
-		FaktorformulaContext _localctx = new FaktorformulaContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_faktorformula);
-		int _la;
+	public final ReferenceContext reference() throws RecognitionException {
+		ReferenceContext _localctx = new ReferenceContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_reference);
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			{
-			setState(159);
-			powerformula();
-			setState(165);
+			int _alt;
+			setState(192);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==MULTI || _la==DIVISION) {
-				{
+			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
 				{
+				setState(159);
+				match(COMPONENT);
 				setState(160);
-				multoperator();
-				setState(161);
-				powerformula();
+				match(CODEWORD);
+				setState(168);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+				case 1:
+					{
+					setState(161);
+					match(IDENTIFIER);
+					}
+					break;
+				case 2:
+					{
+					setState(162);
+					variable();
+					setState(164); 
+					_errHandler.sync(this);
+					_alt = 1;
+					do {
+						switch (_alt) {
+						case 1:
+							{
+							{
+							setState(163);
+							index();
+							}
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(166); 
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
+					} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+					}
+					break;
 				}
 				}
-				setState(167);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class PowerformulaContext extends ParserRuleContext {
-		public List<NottermContext> notterm() {
-			return getRuleContexts(NottermContext.class);
-		}
-		public NottermContext notterm(int i) {
-			return getRuleContext(NottermContext.class,i);
-		}
-		public List<TerminalNode> POWER() { return getTokens(folParser.POWER); }
-		public TerminalNode POWER(int i) {
-			return getToken(folParser.POWER, i);
-		}
-		public PowerformulaContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_powerformula; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterPowerformula(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitPowerformula(this);
-		}
-	}
-
-	public final PowerformulaContext powerformula() throws RecognitionException {
-		PowerformulaContext _localctx = new PowerformulaContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_powerformula);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			{
-			setState(168);
-			notterm();
-			setState(173);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==POWER) {
-				{
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
 				{
-				setState(169);
-				match(POWER);
 				setState(170);
-				notterm();
-				}
-				}
-				setState(175);
+				match(IDENTIFIER);
+				setState(183);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class NottermContext extends ParserRuleContext {
-		public TermContext term() {
-			return getRuleContext(TermContext.class,0);
-		}
-		public TerminalNode NOT() { return getToken(folParser.NOT, 0); }
-		public NottermContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_notterm; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterNotterm(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitNotterm(this);
-		}
-	}
-
-	public final NottermContext notterm() throws RecognitionException {
-		NottermContext _localctx = new NottermContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_notterm);
-		try {
-			setState(179);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case TRUE:
-			case FALSE:
-			case COMPONENT:
-			case STRING:
-			case IDENTIFIER:
-			case NUMBER:
-			case LPAREN:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(176);
-				term();
+				switch (_input.LA(1)) {
+				case CODEWORD:
+					{
+					setState(171);
+					match(CODEWORD);
+					setState(174);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+					case 1:
+						{
+						setState(172);
+						match(IDENTIFIER);
+						}
+						break;
+					case 2:
+						{
+						setState(173);
+						array();
+						}
+						break;
+					}
+					}
+					break;
+				case T__3:
+					{
+					setState(176);
+					match(T__3);
+					setState(181);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+					case 1:
+						{
+						setState(177);
+						functionname();
+						setState(178);
+						arguments();
+						}
+						break;
+					case 2:
+						{
+						setState(180);
+						path();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
 				}
 				break;
-			case NOT:
-				enterOuterAlt(_localctx, 2);
-				{
+			case 3:
+				enterOuterAlt(_localctx, 3);
 				{
-				setState(177);
-				match(NOT);
-				setState(178);
-				term();
+				setState(185);
+				variable();
+				setState(189);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(186);
+						index();
+						}
+						} 
+					}
+					setState(191);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 				}
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1021,173 +1040,96 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class TermContext extends ParserRuleContext {
-		public ComppropertyContext compproperty() {
-			return getRuleContext(ComppropertyContext.class,0);
-		}
-		public PortpropertyContext portproperty() {
-			return getRuleContext(PortpropertyContext.class,0);
-		}
-		public PortContext port() {
-			return getRuleContext(PortContext.class,0);
-		}
-		public FunctioncallContext functioncall() {
-			return getRuleContext(FunctioncallContext.class,0);
-		}
-		public ArrayContext array() {
-			return getRuleContext(ArrayContext.class,0);
+	public static class PathContext extends ParserRuleContext {
+		public List<TerminalNode> IDENTIFIER() { return getTokens(folParser.IDENTIFIER); }
+		public TerminalNode IDENTIFIER(int i) {
+			return getToken(folParser.IDENTIFIER, i);
 		}
 		public VariableContext variable() {
 			return getRuleContext(VariableContext.class,0);
 		}
-		public TerminalNode NUMBER() { return getToken(folParser.NUMBER, 0); }
-		public TerminalNode LPAREN() { return getToken(folParser.LPAREN, 0); }
-		public TerminalNode MINUS() { return getToken(folParser.MINUS, 0); }
-		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
-		public TermContext term() {
-			return getRuleContext(TermContext.class,0);
+		public List<IndexContext> index() {
+			return getRuleContexts(IndexContext.class);
 		}
-		public TerminalNode TRUE() { return getToken(folParser.TRUE, 0); }
-		public TerminalNode FALSE() { return getToken(folParser.FALSE, 0); }
-		public TerminalNode STRING() { return getToken(folParser.STRING, 0); }
-		public FormulaContext formula() {
-			return getRuleContext(FormulaContext.class,0);
+		public IndexContext index(int i) {
+			return getRuleContext(IndexContext.class,i);
 		}
-		public TermContext(ParserRuleContext parent, int invokingState) {
+		public PathContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_term; }
+		@Override public int getRuleIndex() { return RULE_path; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterTerm(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterPath(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitTerm(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitPath(this);
 		}
 	}
 
-	public final TermContext term() throws RecognitionException {
-		TermContext _localctx = new TermContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_term);
+	public final PathContext path() throws RecognitionException {
+		PathContext _localctx = new PathContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_path);
 		try {
-			setState(204);
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(198);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(181);
-				compproperty();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(182);
-				portproperty();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(183);
-				port();
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(184);
-				functioncall();
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(185);
-				array();
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(186);
-				variable();
-				}
-				break;
-			case 7:
-				enterOuterAlt(_localctx, 7);
-				{
-				setState(187);
-				match(NUMBER);
-				}
-				break;
-			case 8:
-				enterOuterAlt(_localctx, 8);
-				{
-				{
-				setState(188);
-				match(LPAREN);
-				setState(189);
-				match(MINUS);
-				{
-				setState(190);
-				term();
-				}
-				setState(191);
-				match(RPAREN);
-				}
-				}
-				break;
-			case 9:
-				enterOuterAlt(_localctx, 9);
-				{
-				setState(193);
-				match(TRUE);
-				}
-				break;
-			case 10:
-				enterOuterAlt(_localctx, 10);
-				{
-				setState(194);
-				match(FALSE);
-				}
-				break;
-			case 11:
-				enterOuterAlt(_localctx, 11);
-				{
-				setState(195);
-				match(STRING);
+			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(194);
+					match(IDENTIFIER);
+					setState(195);
+					match(T__3);
+					}
+					} 
 				}
-				break;
-			case 12:
-				enterOuterAlt(_localctx, 12);
-				{
+				setState(200);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			}
+			setState(208);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
+			case 1:
 				{
-				setState(196);
-				match(LPAREN);
-				setState(197);
-				term();
-				setState(198);
-				match(RPAREN);
-				}
+				setState(201);
+				match(IDENTIFIER);
 				}
 				break;
-			case 13:
-				enterOuterAlt(_localctx, 13);
-				{
+			case 2:
 				{
-				setState(200);
-				match(LPAREN);
-				setState(201);
-				formula();
 				setState(202);
-				match(RPAREN);
-				}
+				variable();
+				setState(204); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(203);
+						index();
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(206); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			}
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -1206,17 +1148,11 @@ public class folParser extends Parser {
 		}
 		public TerminalNode COMPONENT() { return getToken(folParser.COMPONENT, 0); }
 		public TerminalNode CODEWORD() { return getToken(folParser.CODEWORD, 0); }
-		public List<TermContext> term() {
-			return getRuleContexts(TermContext.class);
-		}
-		public TermContext term(int i) {
-			return getRuleContext(TermContext.class,i);
-		}
-		public List<FormulaContext> formula() {
-			return getRuleContexts(FormulaContext.class);
+		public List<IndexContext> index() {
+			return getRuleContexts(IndexContext.class);
 		}
-		public FormulaContext formula(int i) {
-			return getRuleContext(FormulaContext.class,i);
+		public IndexContext index(int i) {
+			return getRuleContext(IndexContext.class,i);
 		}
 		public List<TerminalNode> IDENTIFIER() { return getTokens(folParser.IDENTIFIER); }
 		public TerminalNode IDENTIFIER(int i) {
@@ -1238,28 +1174,25 @@ public class folParser extends Parser {
 
 	public final ArrayContext array() throws RecognitionException {
 		ArrayContext _localctx = new ArrayContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_array);
-		int _la;
+		enterRule(_localctx, 18, RULE_array);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(214);
+			setState(218);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
 			case 1:
 				{
-				{
-				setState(206);
+				setState(210);
 				match(COMPONENT);
-				setState(207);
+				setState(211);
 				match(CODEWORD);
 				}
-				}
 				break;
 			case 2:
 				{
-				setState(210); 
+				setState(214); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -1267,9 +1200,9 @@ public class folParser extends Parser {
 					case 1:
 						{
 						{
-						setState(208);
+						setState(212);
 						match(IDENTIFIER);
-						setState(209);
+						setState(213);
 						match(T__3);
 						}
 						}
@@ -1277,152 +1210,35 @@ public class folParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(212); 
+					setState(216); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			}
-			setState(216);
+			setState(220);
 			variable();
-			setState(224); 
+			setState(222); 
 			_errHandler.sync(this);
-			_la = _input.LA(1);
+			_alt = 1;
 			do {
-				{
-				{
-				setState(217);
-				match(T__4);
-				setState(220);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+				switch (_alt) {
 				case 1:
 					{
-					setState(218);
-					term();
-					}
-					break;
-				case 2:
 					{
-					setState(219);
-					formula();
+					setState(221);
+					index();
+					}
 					}
 					break;
+				default:
+					throw new NoViableAltException(this);
 				}
-				setState(222);
-				match(T__5);
-				}
-				}
-				setState(226); 
+				setState(224); 
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( _la==T__4 );
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ComppropertyContext extends ParserRuleContext {
-		public TerminalNode COMPONENT() { return getToken(folParser.COMPONENT, 0); }
-		public TerminalNode CODEWORD() { return getToken(folParser.CODEWORD, 0); }
-		public TerminalNode IDENTIFIER() { return getToken(folParser.IDENTIFIER, 0); }
-		public ComppropertyContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_compproperty; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterCompproperty(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitCompproperty(this);
-		}
-	}
-
-	public final ComppropertyContext compproperty() throws RecognitionException {
-		ComppropertyContext _localctx = new ComppropertyContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_compproperty);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(228);
-			match(COMPONENT);
-			setState(229);
-			match(CODEWORD);
-			setState(230);
-			match(IDENTIFIER);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class PortpropertyContext extends ParserRuleContext {
-		public List<TerminalNode> IDENTIFIER() { return getTokens(folParser.IDENTIFIER); }
-		public TerminalNode IDENTIFIER(int i) {
-			return getToken(folParser.IDENTIFIER, i);
-		}
-		public TerminalNode CODEWORD() { return getToken(folParser.CODEWORD, 0); }
-		public ArrayContext array() {
-			return getRuleContext(ArrayContext.class,0);
-		}
-		public PortpropertyContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_portproperty; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterPortproperty(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitPortproperty(this);
-		}
-	}
-
-	public final PortpropertyContext portproperty() throws RecognitionException {
-		PortpropertyContext _localctx = new PortpropertyContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_portproperty);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(232);
-			match(IDENTIFIER);
-			setState(233);
-			match(CODEWORD);
-			setState(236);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
-			case 1:
-				{
-				setState(234);
-				match(IDENTIFIER);
-				}
-				break;
-			case 2:
-				{
-				setState(235);
-				array();
-				}
-				break;
-			}
+				_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
 		catch (RecognitionException re) {
@@ -1436,50 +1252,36 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class PortContext extends ParserRuleContext {
-		public List<TerminalNode> IDENTIFIER() { return getTokens(folParser.IDENTIFIER); }
-		public TerminalNode IDENTIFIER(int i) {
-			return getToken(folParser.IDENTIFIER, i);
+	public static class IndexContext extends ParserRuleContext {
+		public FormulaContext formula() {
+			return getRuleContext(FormulaContext.class,0);
 		}
-		public PortContext(ParserRuleContext parent, int invokingState) {
+		public IndexContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_port; }
+		@Override public int getRuleIndex() { return RULE_index; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterPort(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterIndex(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitPort(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitIndex(this);
 		}
 	}
 
-	public final PortContext port() throws RecognitionException {
-		PortContext _localctx = new PortContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_port);
-		int _la;
+	public final IndexContext index() throws RecognitionException {
+		IndexContext _localctx = new IndexContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_index);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(238);
-			match(IDENTIFIER);
-			setState(241); 
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			do {
-				{
-				{
-				setState(239);
-				match(T__3);
-				setState(240);
-				match(IDENTIFIER);
-				}
-				}
-				setState(243); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( _la==T__3 );
+			setState(226);
+			match(T__4);
+			setState(227);
+			formula();
+			setState(228);
+			match(T__5);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1493,101 +1295,57 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class FunctioncallContext extends ParserRuleContext {
-		public TerminalNode IDENTIFIER() { return getToken(folParser.IDENTIFIER, 0); }
-		public FunctionnameContext functionname() {
-			return getRuleContext(FunctionnameContext.class,0);
-		}
+	public static class ArgumentsContext extends ParserRuleContext {
 		public TerminalNode LPAREN() { return getToken(folParser.LPAREN, 0); }
-		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
-		public List<TermContext> term() {
-			return getRuleContexts(TermContext.class);
-		}
-		public TermContext term(int i) {
-			return getRuleContext(TermContext.class,i);
-		}
 		public List<FormulaContext> formula() {
 			return getRuleContexts(FormulaContext.class);
 		}
 		public FormulaContext formula(int i) {
 			return getRuleContext(FormulaContext.class,i);
 		}
-		public FunctioncallContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode RPAREN() { return getToken(folParser.RPAREN, 0); }
+		public ArgumentsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_functioncall; }
+		@Override public int getRuleIndex() { return RULE_arguments; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterFunctioncall(this);
+			if ( listener instanceof folListener ) ((folListener)listener).enterArguments(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitFunctioncall(this);
+			if ( listener instanceof folListener ) ((folListener)listener).exitArguments(this);
 		}
 	}
 
-	public final FunctioncallContext functioncall() throws RecognitionException {
-		FunctioncallContext _localctx = new FunctioncallContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_functioncall);
+	public final ArgumentsContext arguments() throws RecognitionException {
+		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_arguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(245);
-			match(IDENTIFIER);
-			setState(246);
-			match(T__3);
-			setState(247);
-			functionname();
-			setState(248);
+			setState(230);
 			match(LPAREN);
-			setState(251);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
-			case 1:
-				{
-				setState(249);
-				term();
-				}
-				break;
-			case 2:
-				{
-				setState(250);
-				formula();
-				}
-				break;
-			}
-			setState(260);
+			setState(231);
+			formula();
+			setState(236);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(253);
+				setState(232);
 				match(T__2);
-				setState(256);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
-				case 1:
-					{
-					setState(254);
-					term();
-					}
-					break;
-				case 2:
-					{
-					setState(255);
-					formula();
-					}
-					break;
-				}
+				setState(233);
+				formula();
 				}
 				}
-				setState(262);
+				setState(238);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(263);
+			setState(239);
 			match(RPAREN);
 			}
 		}
@@ -1620,11 +1378,11 @@ public class folParser extends Parser {
 
 	public final FunctionnameContext functionname() throws RecognitionException {
 		FunctionnameContext _localctx = new FunctionnameContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_functionname);
+		enterRule(_localctx, 24, RULE_functionname);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(265);
+			setState(241);
 			match(IDENTIFIER);
 			}
 		}
@@ -1662,12 +1420,12 @@ public class folParser extends Parser {
 
 	public final CompoperatorContext compoperator() throws RecognitionException {
 		CompoperatorContext _localctx = new CompoperatorContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_compoperator);
+		enterRule(_localctx, 26, RULE_compoperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(267);
+			setState(243);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQUAL) | (1L << NEQUAL) | (1L << GREATER) | (1L << SMALLER) | (1L << SMALLEREQ) | (1L << GREATEREQ))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1709,12 +1467,12 @@ public class folParser extends Parser {
 
 	public final MultoperatorContext multoperator() throws RecognitionException {
 		MultoperatorContext _localctx = new MultoperatorContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_multoperator);
+		enterRule(_localctx, 28, RULE_multoperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(269);
+			setState(245);
 			_la = _input.LA(1);
 			if ( !(_la==MULTI || _la==DIVISION) ) {
 			_errHandler.recoverInline(this);
@@ -1756,12 +1514,12 @@ public class folParser extends Parser {
 
 	public final AddoperatorContext addoperator() throws RecognitionException {
 		AddoperatorContext _localctx = new AddoperatorContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_addoperator);
+		enterRule(_localctx, 30, RULE_addoperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(271);
+			setState(247);
 			_la = _input.LA(1);
 			if ( !(_la==ADD || _la==MINUS) ) {
 			_errHandler.recoverInline(this);
@@ -1784,55 +1542,6 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ConnectoperatorContext extends ParserRuleContext {
-		public TerminalNode CONJ() { return getToken(folParser.CONJ, 0); }
-		public TerminalNode DISJ() { return getToken(folParser.DISJ, 0); }
-		public TerminalNode IMPL() { return getToken(folParser.IMPL, 0); }
-		public TerminalNode BICOND() { return getToken(folParser.BICOND, 0); }
-		public ConnectoperatorContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_connectoperator; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).enterConnectoperator(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof folListener ) ((folListener)listener).exitConnectoperator(this);
-		}
-	}
-
-	public final ConnectoperatorContext connectoperator() throws RecognitionException {
-		ConnectoperatorContext _localctx = new ConnectoperatorContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_connectoperator);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(273);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CONJ) | (1L << DISJ) | (1L << IMPL) | (1L << BICOND))) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	public static class Pred_constantContext extends ParserRuleContext {
 		public List<TerminalNode> CHARACTER() { return getTokens(folParser.CHARACTER); }
 		public TerminalNode CHARACTER(int i) {
@@ -1854,24 +1563,24 @@ public class folParser extends Parser {
 
 	public final Pred_constantContext pred_constant() throws RecognitionException {
 		Pred_constantContext _localctx = new Pred_constantContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_pred_constant);
+		enterRule(_localctx, 32, RULE_pred_constant);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(275);
+			setState(249);
 			match(T__6);
-			setState(279);
+			setState(253);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CHARACTER) {
 				{
 				{
-				setState(276);
+				setState(250);
 				match(CHARACTER);
 				}
 				}
-				setState(281);
+				setState(255);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1906,11 +1615,11 @@ public class folParser extends Parser {
 
 	public final VariableContext variable() throws RecognitionException {
 		VariableContext _localctx = new VariableContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_variable);
+		enterRule(_localctx, 34, RULE_variable);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(282);
+			setState(256);
 			match(IDENTIFIER);
 			}
 		}
@@ -1925,106 +1634,125 @@ public class folParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 4:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 8);
+		case 1:
+			return precpred(_ctx, 7);
+		case 2:
+			return precpred(_ctx, 6);
+		case 3:
+			return precpred(_ctx, 5);
+		case 4:
+			return precpred(_ctx, 4);
+		case 5:
+			return precpred(_ctx, 3);
+		case 6:
+			return precpred(_ctx, 2);
+		case 7:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3(\u011f\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3(\u0105\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
-		"\4\32\t\32\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
-		"\3\3\7\3E\n\3\f\3\16\3H\13\3\3\3\3\3\5\3L\n\3\3\4\3\4\5\4P\n\4\3\4\3\4"+
-		"\3\4\5\4U\n\4\3\4\7\4X\n\4\f\4\16\4[\13\4\3\4\3\4\5\4_\n\4\3\4\3\4\3\4"+
-		"\3\5\3\5\5\5f\n\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5n\n\5\3\5\3\5\3\5\3\6\3\6"+
-		"\3\6\3\6\7\6w\n\6\f\6\16\6z\13\6\3\7\3\7\5\7~\n\7\3\7\3\7\3\7\5\7\u0083"+
-		"\n\7\3\b\3\b\3\b\3\b\7\b\u0089\n\b\f\b\16\b\u008c\13\b\3\t\3\t\3\t\3\t"+
-		"\7\t\u0092\n\t\f\t\16\t\u0095\13\t\3\t\3\t\3\n\3\n\3\n\3\n\7\n\u009d\n"+
-		"\n\f\n\16\n\u00a0\13\n\3\13\3\13\3\13\3\13\7\13\u00a6\n\13\f\13\16\13"+
-		"\u00a9\13\13\3\f\3\f\3\f\7\f\u00ae\n\f\f\f\16\f\u00b1\13\f\3\r\3\r\3\r"+
-		"\5\r\u00b6\n\r\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16"+
-		"\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u00cf"+
-		"\n\16\3\17\3\17\3\17\3\17\6\17\u00d5\n\17\r\17\16\17\u00d6\5\17\u00d9"+
-		"\n\17\3\17\3\17\3\17\3\17\5\17\u00df\n\17\3\17\3\17\6\17\u00e3\n\17\r"+
-		"\17\16\17\u00e4\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\5\21\u00ef\n\21"+
-		"\3\22\3\22\3\22\6\22\u00f4\n\22\r\22\16\22\u00f5\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\5\23\u00fe\n\23\3\23\3\23\3\23\5\23\u0103\n\23\7\23\u0105\n\23"+
-		"\f\23\16\23\u0108\13\23\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3"+
-		"\27\3\30\3\30\3\31\3\31\7\31\u0118\n\31\f\31\16\31\u011b\13\31\3\32\3"+
-		"\32\3\32\2\2\33\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62"+
-		"\2\7\3\2\31\32\4\2\31\32$\'\3\2\35\36\3\2\33\34\3\2 #\2\u0131\2\64\3\2"+
-		"\2\2\4K\3\2\2\2\6M\3\2\2\2\bc\3\2\2\2\nr\3\2\2\2\f}\3\2\2\2\16\u0084\3"+
-		"\2\2\2\20\u008d\3\2\2\2\22\u0098\3\2\2\2\24\u00a1\3\2\2\2\26\u00aa\3\2"+
-		"\2\2\30\u00b5\3\2\2\2\32\u00ce\3\2\2\2\34\u00d8\3\2\2\2\36\u00e6\3\2\2"+
-		"\2 \u00ea\3\2\2\2\"\u00f0\3\2\2\2$\u00f7\3\2\2\2&\u010b\3\2\2\2(\u010d"+
-		"\3\2\2\2*\u010f\3\2\2\2,\u0111\3\2\2\2.\u0113\3\2\2\2\60\u0115\3\2\2\2"+
-		"\62\u011c\3\2\2\2\64\65\5\4\3\2\65\66\7\2\2\3\66\3\3\2\2\2\678\7\3\2\2"+
-		"89\5\4\3\29:\7\3\2\2:L\3\2\2\2;L\5\f\7\2<L\5\n\6\2=L\5\6\4\2>L\5\b\5\2"+
-		"?@\5\60\31\2@A\7\25\2\2AF\5\32\16\2BC\7\4\2\2CE\5\32\16\2DB\3\2\2\2EH"+
-		"\3\2\2\2FD\3\2\2\2FG\3\2\2\2GI\3\2\2\2HF\3\2\2\2IJ\7\27\2\2JL\3\2\2\2"+
-		"K\67\3\2\2\2K;\3\2\2\2K<\3\2\2\2K=\3\2\2\2K>\3\2\2\2K?\3\2\2\2L\5\3\2"+
-		"\2\2MO\7\17\2\2NP\7\n\2\2ON\3\2\2\2OP\3\2\2\2PQ\3\2\2\2QY\7\23\2\2RT\7"+
-		"\4\2\2SU\7\n\2\2TS\3\2\2\2TU\3\2\2\2UV\3\2\2\2VX\7\23\2\2WR\3\2\2\2X["+
-		"\3\2\2\2YW\3\2\2\2YZ\3\2\2\2Z^\3\2\2\2[Y\3\2\2\2\\]\7\4\2\2]_\5\4\3\2"+
-		"^\\\3\2\2\2^_\3\2\2\2_`\3\2\2\2`a\7\4\2\2ab\5\4\3\2b\7\3\2\2\2ce\7\20"+
-		"\2\2df\7\n\2\2ed\3\2\2\2ef\3\2\2\2fg\3\2\2\2gm\7\23\2\2hi\7\4\2\2ij\5"+
-		"\32\16\2jk\7\4\2\2kl\5\32\16\2ln\3\2\2\2mh\3\2\2\2mn\3\2\2\2no\3\2\2\2"+
-		"op\7\4\2\2pq\5\4\3\2q\t\3\2\2\2rx\5\16\b\2st\5.\30\2tu\5\16\b\2uw\3\2"+
-		"\2\2vs\3\2\2\2wz\3\2\2\2xv\3\2\2\2xy\3\2\2\2y\13\3\2\2\2zx\3\2\2\2{~\5"+
-		"\20\t\2|~\5$\23\2}{\3\2\2\2}|\3\2\2\2~\177\3\2\2\2\177\u0082\t\2\2\2\u0080"+
-		"\u0083\5\20\t\2\u0081\u0083\5$\23\2\u0082\u0080\3\2\2\2\u0082\u0081\3"+
-		"\2\2\2\u0083\r\3\2\2\2\u0084\u008a\5\22\n\2\u0085\u0086\5(\25\2\u0086"+
-		"\u0087\5\22\n\2\u0087\u0089\3\2\2\2\u0088\u0085\3\2\2\2\u0089\u008c\3"+
-		"\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b\17\3\2\2\2\u008c"+
-		"\u008a\3\2\2\2\u008d\u008e\7\25\2\2\u008e\u0093\5\32\16\2\u008f\u0090"+
-		"\7\5\2\2\u0090\u0092\5\32\16\2\u0091\u008f\3\2\2\2\u0092\u0095\3\2\2\2"+
-		"\u0093\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094\u0096\3\2\2\2\u0095\u0093"+
-		"\3\2\2\2\u0096\u0097\7\27\2\2\u0097\21\3\2\2\2\u0098\u009e\5\24\13\2\u0099"+
-		"\u009a\5,\27\2\u009a\u009b\5\24\13\2\u009b\u009d\3\2\2\2\u009c\u0099\3"+
-		"\2\2\2\u009d\u00a0\3\2\2\2\u009e\u009c\3\2\2\2\u009e\u009f\3\2\2\2\u009f"+
-		"\23\3\2\2\2\u00a0\u009e\3\2\2\2\u00a1\u00a7\5\26\f\2\u00a2\u00a3\5*\26"+
-		"\2\u00a3\u00a4\5\26\f\2\u00a4\u00a6\3\2\2\2\u00a5\u00a2\3\2\2\2\u00a6"+
-		"\u00a9\3\2\2\2\u00a7\u00a5\3\2\2\2\u00a7\u00a8\3\2\2\2\u00a8\25\3\2\2"+
-		"\2\u00a9\u00a7\3\2\2\2\u00aa\u00af\5\30\r\2\u00ab\u00ac\7\30\2\2\u00ac"+
-		"\u00ae\5\30\r\2\u00ad\u00ab\3\2\2\2\u00ae\u00b1\3\2\2\2\u00af\u00ad\3"+
-		"\2\2\2\u00af\u00b0\3\2\2\2\u00b0\27\3\2\2\2\u00b1\u00af\3\2\2\2\u00b2"+
-		"\u00b6\5\32\16\2\u00b3\u00b4\7\26\2\2\u00b4\u00b6\5\32\16\2\u00b5\u00b2"+
-		"\3\2\2\2\u00b5\u00b3\3\2\2\2\u00b6\31\3\2\2\2\u00b7\u00cf\5\36\20\2\u00b8"+
-		"\u00cf\5 \21\2\u00b9\u00cf\5\"\22\2\u00ba\u00cf\5$\23\2\u00bb\u00cf\5"+
-		"\34\17\2\u00bc\u00cf\5\62\32\2\u00bd\u00cf\7\24\2\2\u00be\u00bf\7\25\2"+
-		"\2\u00bf\u00c0\7\34\2\2\u00c0\u00c1\5\32\16\2\u00c1\u00c2\7\27\2\2\u00c2"+
-		"\u00cf\3\2\2\2\u00c3\u00cf\7\13\2\2\u00c4\u00cf\7\f\2\2\u00c5\u00cf\7"+
-		"\22\2\2\u00c6\u00c7\7\25\2\2\u00c7\u00c8\5\32\16\2\u00c8\u00c9\7\27\2"+
-		"\2\u00c9\u00cf\3\2\2\2\u00ca\u00cb\7\25\2\2\u00cb\u00cc\5\4\3\2\u00cc"+
-		"\u00cd\7\27\2\2\u00cd\u00cf\3\2\2\2\u00ce\u00b7\3\2\2\2\u00ce\u00b8\3"+
-		"\2\2\2\u00ce\u00b9\3\2\2\2\u00ce\u00ba\3\2\2\2\u00ce\u00bb\3\2\2\2\u00ce"+
-		"\u00bc\3\2\2\2\u00ce\u00bd\3\2\2\2\u00ce\u00be\3\2\2\2\u00ce\u00c3\3\2"+
-		"\2\2\u00ce\u00c4\3\2\2\2\u00ce\u00c5\3\2\2\2\u00ce\u00c6\3\2\2\2\u00ce"+
-		"\u00ca\3\2\2\2\u00cf\33\3\2\2\2\u00d0\u00d1\7\21\2\2\u00d1\u00d9\7\r\2"+
-		"\2\u00d2\u00d3\7\23\2\2\u00d3\u00d5\7\6\2\2\u00d4\u00d2\3\2\2\2\u00d5"+
-		"\u00d6\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00d9\3\2"+
-		"\2\2\u00d8\u00d0\3\2\2\2\u00d8\u00d4\3\2\2\2\u00d8\u00d9\3\2\2\2\u00d9"+
-		"\u00da\3\2\2\2\u00da\u00e2\5\62\32\2\u00db\u00de\7\7\2\2\u00dc\u00df\5"+
-		"\32\16\2\u00dd\u00df\5\4\3\2\u00de\u00dc\3\2\2\2\u00de\u00dd\3\2\2\2\u00df"+
-		"\u00e0\3\2\2\2\u00e0\u00e1\7\b\2\2\u00e1\u00e3\3\2\2\2\u00e2\u00db\3\2"+
-		"\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5"+
-		"\35\3\2\2\2\u00e6\u00e7\7\21\2\2\u00e7\u00e8\7\r\2\2\u00e8\u00e9\7\23"+
-		"\2\2\u00e9\37\3\2\2\2\u00ea\u00eb\7\23\2\2\u00eb\u00ee\7\r\2\2\u00ec\u00ef"+
-		"\7\23\2\2\u00ed\u00ef\5\34\17\2\u00ee\u00ec\3\2\2\2\u00ee\u00ed\3\2\2"+
-		"\2\u00ef!\3\2\2\2\u00f0\u00f3\7\23\2\2\u00f1\u00f2\7\6\2\2\u00f2\u00f4"+
-		"\7\23\2\2\u00f3\u00f1\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f3\3\2\2\2"+
-		"\u00f5\u00f6\3\2\2\2\u00f6#\3\2\2\2\u00f7\u00f8\7\23\2\2\u00f8\u00f9\7"+
-		"\6\2\2\u00f9\u00fa\5&\24\2\u00fa\u00fd\7\25\2\2\u00fb\u00fe\5\32\16\2"+
-		"\u00fc\u00fe\5\4\3\2\u00fd\u00fb\3\2\2\2\u00fd\u00fc\3\2\2\2\u00fe\u0106"+
-		"\3\2\2\2\u00ff\u0102\7\5\2\2\u0100\u0103\5\32\16\2\u0101\u0103\5\4\3\2"+
-		"\u0102\u0100\3\2\2\2\u0102\u0101\3\2\2\2\u0103\u0105\3\2\2\2\u0104\u00ff"+
-		"\3\2\2\2\u0105\u0108\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0107\3\2\2\2\u0107"+
-		"\u0109\3\2\2\2\u0108\u0106\3\2\2\2\u0109\u010a\7\27\2\2\u010a%\3\2\2\2"+
-		"\u010b\u010c\7\23\2\2\u010c\'\3\2\2\2\u010d\u010e\t\3\2\2\u010e)\3\2\2"+
-		"\2\u010f\u0110\t\4\2\2\u0110+\3\2\2\2\u0111\u0112\t\5\2\2\u0112-\3\2\2"+
-		"\2\u0113\u0114\t\6\2\2\u0114/\3\2\2\2\u0115\u0119\7\t\2\2\u0116\u0118"+
-		"\7\37\2\2\u0117\u0116\3\2\2\2\u0118\u011b\3\2\2\2\u0119\u0117\3\2\2\2"+
-		"\u0119\u011a\3\2\2\2\u011a\61\3\2\2\2\u011b\u0119\3\2\2\2\u011c\u011d"+
-		"\7\23\2\2\u011d\63\3\2\2\2\36FKOTY^emx}\u0082\u008a\u0093\u009e\u00a7"+
-		"\u00af\u00b5\u00ce\u00d6\u00d8\u00de\u00e4\u00ee\u00f5\u00fd\u0102\u0106"+
-		"\u0119";
+		"\4\23\t\23\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\7\3"+
+		"\65\n\3\f\3\16\38\13\3\3\3\3\3\3\3\5\3=\n\3\3\4\3\4\5\4A\n\4\3\4\3\4\3"+
+		"\4\5\4F\n\4\3\4\7\4I\n\4\f\4\16\4L\13\4\3\4\3\4\5\4P\n\4\3\4\3\4\3\4\3"+
+		"\5\3\5\5\5W\n\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5b\n\5\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0082\n\6\f\6\16\6\u0085"+
+		"\13\6\3\7\5\7\u0088\n\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3"+
+		"\b\3\b\7\b\u0097\n\b\f\b\16\b\u009a\13\b\5\b\u009c\n\b\3\b\3\b\5\b\u00a0"+
+		"\n\b\3\t\3\t\3\t\3\t\3\t\6\t\u00a7\n\t\r\t\16\t\u00a8\5\t\u00ab\n\t\3"+
+		"\t\3\t\3\t\3\t\5\t\u00b1\n\t\3\t\3\t\3\t\3\t\3\t\5\t\u00b8\n\t\5\t\u00ba"+
+		"\n\t\3\t\3\t\7\t\u00be\n\t\f\t\16\t\u00c1\13\t\5\t\u00c3\n\t\3\n\3\n\7"+
+		"\n\u00c7\n\n\f\n\16\n\u00ca\13\n\3\n\3\n\3\n\6\n\u00cf\n\n\r\n\16\n\u00d0"+
+		"\5\n\u00d3\n\n\3\13\3\13\3\13\3\13\6\13\u00d9\n\13\r\13\16\13\u00da\5"+
+		"\13\u00dd\n\13\3\13\3\13\6\13\u00e1\n\13\r\13\16\13\u00e2\3\f\3\f\3\f"+
+		"\3\f\3\r\3\r\3\r\3\r\7\r\u00ed\n\r\f\r\16\r\u00f0\13\r\3\r\3\r\3\16\3"+
+		"\16\3\17\3\17\3\20\3\20\3\21\3\21\3\22\3\22\7\22\u00fe\n\22\f\22\16\22"+
+		"\u0101\13\22\3\23\3\23\3\23\2\3\n\24\2\4\6\b\n\f\16\20\22\24\26\30\32"+
+		"\34\36 \"$\2\5\4\2\31\32$\'\3\2\35\36\3\2\33\34\2\u011e\2&\3\2\2\2\4<"+
+		"\3\2\2\2\6>\3\2\2\2\bT\3\2\2\2\nc\3\2\2\2\f\u0087\3\2\2\2\16\u009f\3\2"+
+		"\2\2\20\u00c2\3\2\2\2\22\u00c8\3\2\2\2\24\u00dc\3\2\2\2\26\u00e4\3\2\2"+
+		"\2\30\u00e8\3\2\2\2\32\u00f3\3\2\2\2\34\u00f5\3\2\2\2\36\u00f7\3\2\2\2"+
+		" \u00f9\3\2\2\2\"\u00fb\3\2\2\2$\u0102\3\2\2\2&\'\5\4\3\2\'(\7\2\2\3("+
+		"\3\3\2\2\2)*\7\3\2\2*+\5\4\3\2+,\7\3\2\2,=\3\2\2\2-=\5\6\4\2.=\5\b\5\2"+
+		"/\60\5\"\22\2\60\61\7\25\2\2\61\66\5\16\b\2\62\63\7\4\2\2\63\65\5\16\b"+
+		"\2\64\62\3\2\2\2\658\3\2\2\2\66\64\3\2\2\2\66\67\3\2\2\2\679\3\2\2\28"+
+		"\66\3\2\2\29:\7\27\2\2:=\3\2\2\2;=\5\n\6\2<)\3\2\2\2<-\3\2\2\2<.\3\2\2"+
+		"\2</\3\2\2\2<;\3\2\2\2=\5\3\2\2\2>@\7\17\2\2?A\7\n\2\2@?\3\2\2\2@A\3\2"+
+		"\2\2AB\3\2\2\2BJ\7\23\2\2CE\7\4\2\2DF\7\n\2\2ED\3\2\2\2EF\3\2\2\2FG\3"+
+		"\2\2\2GI\7\23\2\2HC\3\2\2\2IL\3\2\2\2JH\3\2\2\2JK\3\2\2\2KO\3\2\2\2LJ"+
+		"\3\2\2\2MN\7\4\2\2NP\5\4\3\2OM\3\2\2\2OP\3\2\2\2PQ\3\2\2\2QR\7\4\2\2R"+
+		"S\5\4\3\2S\7\3\2\2\2TV\7\20\2\2UW\7\n\2\2VU\3\2\2\2VW\3\2\2\2WX\3\2\2"+
+		"\2XY\7\23\2\2Ya\7\4\2\2Z[\5\16\b\2[\\\7\4\2\2\\]\5\16\b\2]^\7\4\2\2^_"+
+		"\5\4\3\2_b\3\2\2\2`b\5\4\3\2aZ\3\2\2\2a`\3\2\2\2b\t\3\2\2\2cd\b\6\1\2"+
+		"de\5\f\7\2e\u0083\3\2\2\2fg\f\n\2\2gh\7\30\2\2h\u0082\5\n\6\13ij\f\t\2"+
+		"\2jk\5\36\20\2kl\5\n\6\nl\u0082\3\2\2\2mn\f\b\2\2no\5 \21\2op\5\n\6\t"+
+		"p\u0082\3\2\2\2qr\f\7\2\2rs\5\34\17\2st\5\n\6\bt\u0082\3\2\2\2uv\f\6\2"+
+		"\2vw\7 \2\2w\u0082\5\n\6\7xy\f\5\2\2yz\7!\2\2z\u0082\5\n\6\6{|\f\4\2\2"+
+		"|}\7\"\2\2}\u0082\5\n\6\5~\177\f\3\2\2\177\u0080\7#\2\2\u0080\u0082\5"+
+		"\n\6\4\u0081f\3\2\2\2\u0081i\3\2\2\2\u0081m\3\2\2\2\u0081q\3\2\2\2\u0081"+
+		"u\3\2\2\2\u0081x\3\2\2\2\u0081{\3\2\2\2\u0081~\3\2\2\2\u0082\u0085\3\2"+
+		"\2\2\u0083\u0081\3\2\2\2\u0083\u0084\3\2\2\2\u0084\13\3\2\2\2\u0085\u0083"+
+		"\3\2\2\2\u0086\u0088\7\26\2\2\u0087\u0086\3\2\2\2\u0087\u0088\3\2\2\2"+
+		"\u0088\u0089\3\2\2\2\u0089\u008a\5\16\b\2\u008a\r\3\2\2\2\u008b\u00a0"+
+		"\5\20\t\2\u008c\u00a0\7\24\2\2\u008d\u00a0\7\13\2\2\u008e\u00a0\7\f\2"+
+		"\2\u008f\u00a0\7\22\2\2\u0090\u009b\7\25\2\2\u0091\u0092\7\34\2\2\u0092"+
+		"\u009c\5\16\b\2\u0093\u0098\5\4\3\2\u0094\u0095\7\5\2\2\u0095\u0097\5"+
+		"\4\3\2\u0096\u0094\3\2\2\2\u0097\u009a\3\2\2\2\u0098\u0096\3\2\2\2\u0098"+
+		"\u0099\3\2\2\2\u0099\u009c\3\2\2\2\u009a\u0098\3\2\2\2\u009b\u0091\3\2"+
+		"\2\2\u009b\u0093\3\2\2\2\u009c\u009d\3\2\2\2\u009d\u009e\7\27\2\2\u009e"+
+		"\u00a0\3\2\2\2\u009f\u008b\3\2\2\2\u009f\u008c\3\2\2\2\u009f\u008d\3\2"+
+		"\2\2\u009f\u008e\3\2\2\2\u009f\u008f\3\2\2\2\u009f\u0090\3\2\2\2\u00a0"+
+		"\17\3\2\2\2\u00a1\u00a2\7\21\2\2\u00a2\u00aa\7\r\2\2\u00a3\u00ab\7\23"+
+		"\2\2\u00a4\u00a6\5$\23\2\u00a5\u00a7\5\26\f\2\u00a6\u00a5\3\2\2\2\u00a7"+
+		"\u00a8\3\2\2\2\u00a8\u00a6\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00ab\3\2"+
+		"\2\2\u00aa\u00a3\3\2\2\2\u00aa\u00a4\3\2\2\2\u00ab\u00c3\3\2\2\2\u00ac"+
+		"\u00b9\7\23\2\2\u00ad\u00b0\7\r\2\2\u00ae\u00b1\7\23\2\2\u00af\u00b1\5"+
+		"\24\13\2\u00b0\u00ae\3\2\2\2\u00b0\u00af\3\2\2\2\u00b1\u00ba\3\2\2\2\u00b2"+
+		"\u00b7\7\6\2\2\u00b3\u00b4\5\32\16\2\u00b4\u00b5\5\30\r\2\u00b5\u00b8"+
+		"\3\2\2\2\u00b6\u00b8\5\22\n\2\u00b7\u00b3\3\2\2\2\u00b7\u00b6\3\2\2\2"+
+		"\u00b8\u00ba\3\2\2\2\u00b9\u00ad\3\2\2\2\u00b9\u00b2\3\2\2\2\u00ba\u00c3"+
+		"\3\2\2\2\u00bb\u00bf\5$\23\2\u00bc\u00be\5\26\f\2\u00bd\u00bc\3\2\2\2"+
+		"\u00be\u00c1\3\2\2\2\u00bf\u00bd\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00c3"+
+		"\3\2\2\2\u00c1\u00bf\3\2\2\2\u00c2\u00a1\3\2\2\2\u00c2\u00ac\3\2\2\2\u00c2"+
+		"\u00bb\3\2\2\2\u00c3\21\3\2\2\2\u00c4\u00c5\7\23\2\2\u00c5\u00c7\7\6\2"+
+		"\2\u00c6\u00c4\3\2\2\2\u00c7\u00ca\3\2\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9"+
+		"\3\2\2\2\u00c9\u00d2\3\2\2\2\u00ca\u00c8\3\2\2\2\u00cb\u00d3\7\23\2\2"+
+		"\u00cc\u00ce\5$\23\2\u00cd\u00cf\5\26\f\2\u00ce\u00cd\3\2\2\2\u00cf\u00d0"+
+		"\3\2\2\2\u00d0\u00ce\3\2\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00d3\3\2\2\2\u00d2"+
+		"\u00cb\3\2\2\2\u00d2\u00cc\3\2\2\2\u00d3\23\3\2\2\2\u00d4\u00d5\7\21\2"+
+		"\2\u00d5\u00dd\7\r\2\2\u00d6\u00d7\7\23\2\2\u00d7\u00d9\7\6\2\2\u00d8"+
+		"\u00d6\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\u00d8\3\2\2\2\u00da\u00db\3\2"+
+		"\2\2\u00db\u00dd\3\2\2\2\u00dc\u00d4\3\2\2\2\u00dc\u00d8\3\2\2\2\u00dc"+
+		"\u00dd\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u00e0\5$\23\2\u00df\u00e1\5\26"+
+		"\f\2\u00e0\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2"+
+		"\u00e3\3\2\2\2\u00e3\25\3\2\2\2\u00e4\u00e5\7\7\2\2\u00e5\u00e6\5\4\3"+
+		"\2\u00e6\u00e7\7\b\2\2\u00e7\27\3\2\2\2\u00e8\u00e9\7\25\2\2\u00e9\u00ee"+
+		"\5\4\3\2\u00ea\u00eb\7\5\2\2\u00eb\u00ed\5\4\3\2\u00ec\u00ea\3\2\2\2\u00ed"+
+		"\u00f0\3\2\2\2\u00ee\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f1\3\2"+
+		"\2\2\u00f0\u00ee\3\2\2\2\u00f1\u00f2\7\27\2\2\u00f2\31\3\2\2\2\u00f3\u00f4"+
+		"\7\23\2\2\u00f4\33\3\2\2\2\u00f5\u00f6\t\2\2\2\u00f6\35\3\2\2\2\u00f7"+
+		"\u00f8\t\3\2\2\u00f8\37\3\2\2\2\u00f9\u00fa\t\4\2\2\u00fa!\3\2\2\2\u00fb"+
+		"\u00ff\7\t\2\2\u00fc\u00fe\7\37\2\2\u00fd\u00fc\3\2\2\2\u00fe\u0101\3"+
+		"\2\2\2\u00ff\u00fd\3\2\2\2\u00ff\u0100\3\2\2\2\u0100#\3\2\2\2\u0101\u00ff"+
+		"\3\2\2\2\u0102\u0103\7\23\2\2\u0103%\3\2\2\2\37\66<@EJOVa\u0081\u0083"+
+		"\u0087\u0098\u009b\u009f\u00a8\u00aa\u00b0\u00b7\u00b9\u00bf\u00c2\u00c8"+
+		"\u00d0\u00d2\u00da\u00dc\u00e2\u00ee\u00ff";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -12,6 +12,7 @@ import org.eclipse.graphiti.tb.IToolBehaviorProvider;
 
 import SkillGraph.Graph;
 import SkillGraph.SkillGraphFactory;
+import de.tubs.skeditor.utils.ValidationService;
 import de.tubs.skeditor.utils.ViewUtil;
 
 public class DiagramTypeProvider extends AbstractDiagramTypeProvider {
@@ -54,5 +55,10 @@ public class DiagramTypeProvider extends AbstractDiagramTypeProvider {
 		} catch(NullPointerException e) {
 			// do nothing...
 		}
+		Object graph = getFeatureProvider().getBusinessObjectForPictogramElement(diagram);
+		if (graph instanceof Graph) {
+			// publishes the syntax errors of the requirements as problem markers
+			ValidationService.forGraph((Graph) graph);
+		}
 	}
 }
@@ -30,6 +30,7 @@ import de.tubs.skeditor.features.AddEdgeFeature;
 import de.tubs.skeditor.features.AddNodeFeature;
 import de.tubs.skeditor.features.AddSafetyRequirementsFeature;
 import de.tubs.skeditor.features.ChangeCategoryFeature;
+import de.tubs.skeditor.features.ClearProofCacheFeature;
 import de.tubs.skeditor.features.CreateEdgeFeature;
 import de.tubs.skeditor.features.CreateKeymaeraFileFeature;
 import de.tubs.skeditor.features.CreateNodeFeature;
@@ -42,6 +43,7 @@ import de.tubs.skeditor.features.ReconnectionFeature;
 import de.tubs.skeditor.features.RunKeymaeraCheckFeature;
 import de.tubs.skeditor.features.SetRootNodeFeature;
 import de.tubs.skeditor.features.UpdateFeature;
+import de.tubs.skeditor.features.VerifyGraphFeature;
 
 public class FeatureProvider extends DefaultFeatureProvider {
 
@@ -123,6 +125,9 @@ public class FeatureProvider extends DefaultFeatureProvider {
 		customFeatures.add(new EditControllerFeature(this));
 		customFeatures.add(new CreateKeymaeraFileFeature(this));
 		customFeatures.add(new SetRootNodeFeature(this));
+		customFeatures.add(new VerifyGraphFeature(this, false));
+		customFeatures.add(new VerifyGraphFeature(this, true));
+		customFeatures.add(new ClearProofCacheFeature(this));
 		return customFeatures.toArray(new ICustomFeature[customFeatures.size()]);
 	}
 
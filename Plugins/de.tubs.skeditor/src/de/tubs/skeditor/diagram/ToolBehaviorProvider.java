@@ -37,15 +37,17 @@ import SkillGraph.Category;
 import SkillGraph.Graph;
 import SkillGraph.Node;
 import de.tubs.skeditor.ImageProvider;
-import de.tubs.skeditor.contracting.Contract;
 import de.tubs.skeditor.contracting.ContractPropagator;
+import de.tubs.skeditor.contracting.ContractTooltipService;
 import de.tubs.skeditor.features.AddSafetyRequirementsFeature;
 import de.tubs.skeditor.features.ChangeCategoryFeature;
+import de.tubs.skeditor.features.ClearProofCacheFeature;
 import de.tubs.skeditor.features.CreateKeymaeraFileFeature;
 import de.tubs.skeditor.features.EditControllerFeature;
 import de.tubs.skeditor.features.ExportFeature;
 import de.tubs.skeditor.features.RunKeymaeraCheckFeature;
 import de.tubs.skeditor.features.SetRootNodeFeature;
+import de.tubs.skeditor.features.VerifyGraphFeature;
 import de.tubs.skeditor.utils.ConstraintUtil;
 import de.tubs.skeditor.utils.ViewUtil;
 
@@ -69,7 +71,11 @@ public class ToolBehaviorProvider extends DefaultToolBehaviorProvider {
 				entries.add(new ContextMenuEntry(customFeature, context));
 			} else if (customFeature instanceof SetRootNodeFeature) {
 				entries.add(new ContextMenuEntry(customFeature, context));
-			} 
+			} else if (customFeature instanceof VerifyGraphFeature) {
+				entries.add(new ContextMenuEntry(customFeature, context));
+			} else if (customFeature instanceof ClearProofCacheFeature) {
+				entries.add(new ContextMenuEntry(customFeature, context));
+			}
 		}
 		
 		return entries.toArray(new IContextMenuEntry[entries.size()]);
@@ -172,12 +178,17 @@ public class ToolBehaviorProvider extends DefaultToolBehaviorProvider {
 		PictogramElement pe = graphicsAlgorithm.getPictogramElement();
 		Object bo = getFeatureProvider().getBusinessObjectForPictogramElement(pe);
 		if (bo instanceof Node) {
-
-			Contract c = ContractPropagator.computeContract((Node) bo);
-
-			String assume = "Assume:";
-			String safe = "Safe:";
-			String toolTip = assume + "\n" + c.getAssumption() + "\n" + safe + "\n" + c.getGuarantee();
+			Node node = (Node) bo;
+			String toolTip;
+			if (node.eContainer() instanceof Graph) {
+				// never compute contracts on the UI thread
+				toolTip = ContractTooltipService.forGraph((Graph) node.eContainer()).getToolTip(node);
+				if (toolTip == null) {
+					return super.getToolTip(graphicsAlgorithm);
+				}
+			} else {
+				toolTip = ContractTooltipService.toolTip(ContractPropagator.computeContract(node));
+			}
 
 			IGaService gaService = Graphiti.getGaService();
 			Text text = gaService.createPlainText(null, toolTip);
@@ -0,0 +1,46 @@
+package de.tubs.skeditor.features;
+
+import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.features.context.ICustomContext;
+import org.eclipse.graphiti.features.custom.AbstractCustomFeature;
+
+import de.tubs.skeditor.utils.ResourceUtil;
+import de.tubs.skeditor.verification.ProofCache;
+
+/**
+ * Drops all cached proof results of the project, e.g. after KeYmaera X or Z3
+ * were updated.
+ */
+public class ClearProofCacheFeature extends AbstractCustomFeature {
+
+	public ClearProofCacheFeature(IFeatureProvider fp) {
+		super(fp);
+	}
+
+	@Override
+	public String getName() {
+		return "Clear proof cache";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Removes all cached KeYmaera check results of this project";
+	}
+
+	@Override
+	public boolean canExecute(ICustomContext context) {
+		return true;
+	}
+
+	@Override
+	public boolean hasDoneChanges() {
+		return false;
+	}
+
+	@Override
+	public void execute(ICustomContext context) {
+		ProofCache cache = ProofCache.forProject(ResourceUtil.getProject(getDiagram()));
+		cache.clear();
+		cache.flush();
+	}
+}
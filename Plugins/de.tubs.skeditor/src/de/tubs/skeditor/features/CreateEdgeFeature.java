@@ -13,7 +13,8 @@ import SkillGraph.Node;
 import SkillGraph.SkillGraphFactory;
 import de.tubs.skeditor.ImageProvider;
 import de.tubs.skeditor.utils.ConstraintUtil;
-import de.tubs.skeditor.utils.GraphUtil;
+import de.tubs.skeditor.utils.GraphIndex;
+import de.tubs.skeditor.utils.GraphTraversal;
 
 public class CreateEdgeFeature extends AbstractCreateConnectionFeature {
 
@@ -53,15 +54,11 @@ public class CreateEdgeFeature extends AbstractCreateConnectionFeature {
 	}
 
 	private boolean wouldCauseLoop(Node source, Node target) {
-		for (Node node : GraphUtil.getChildNodes(target)) {
-			if (source.equals(node)) {
-				return true;
-			}
-			if (wouldCauseLoop(source, node)) {
-				return true;
-			}
+		GraphIndex index = GraphIndex.forNode(target);
+		if (index != null && index.contains(source)) {
+			return index.isDescendant(target, source);
 		}
-		return false;
+		return GraphTraversal.isDescendant(target, source);
 	}
 
 	@Override
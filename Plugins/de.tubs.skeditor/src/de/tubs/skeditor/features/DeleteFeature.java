@@ -39,7 +39,7 @@ public class DeleteFeature extends DefaultDeleteFeature {
 				if (node.getCategory() == Category.MAIN) {
 					((Graph) getBusinessObjectForPictogramElement(getDiagram())).setRootNode(null);
 				}
-				nodesToDeleteFrom.addAll(node.getParentNodes());
+				nodesToDeleteFrom.addAll(GraphUtil.getParentNodes(node));
 				nodesToDeleteFrom.addAll(GraphUtil.getChildNodes(node));
 				deletedEdges.addAll(GraphUtil.getAllEdges(node));
 			}
@@ -49,6 +49,12 @@ public class DeleteFeature extends DefaultDeleteFeature {
 
 	@Override
 	public void postDelete(IDeleteContext context) {
+		// parentNodes holds the parent once per edge
+		for (Edge edge : deletedEdges) {
+			if (edge.getChildNode() != null) {
+				edge.getChildNode().getParentNodes().remove(edge.getParentNode());
+			}
+		}
 		for (Node nodeToDeleteFrom : nodesToDeleteFrom) {
 			if (nodeToDeleteFrom != null) {
 				nodeToDeleteFrom.getChildEdges().removeAll(deletedEdges);
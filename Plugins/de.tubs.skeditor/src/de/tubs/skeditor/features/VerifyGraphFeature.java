@@ -0,0 +1,97 @@
+package de.tubs.skeditor.features;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.graphiti.features.IFeatureProvider;
+import org.eclipse.graphiti.features.context.ICustomContext;
+import org.eclipse.graphiti.features.custom.AbstractCustomFeature;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import de.tubs.skeditor.utils.ResourceUtil;
+import de.tubs.skeditor.verification.GraphVerificationJob;
+import de.tubs.skeditor.verification.ProofCache;
+import de.tubs.skeditor.verification.ProofJob;
+import de.tubs.skeditor.verification.VerificationReport;
+import de.tubs.skeditor.verification.VerificationTracker;
+
+/**
+ * Runs the KeYmaera check for every skill of the graph and shows a summary
+ * once all checks are finished. In incremental mode only the skills that were
+ * changed since their last check, and their ancestors, are checked again.
+ */
+public class VerifyGraphFeature extends AbstractCustomFeature {
+
+	private final boolean incremental;
+
+	public VerifyGraphFeature(IFeatureProvider fp, boolean incremental) {
+		super(fp);
+		this.incremental = incremental;
+	}
+
+	@Override
+	public String getName() {
+		return incremental ? "Verify changed skills" : "Verify graph";
+	}
+
+	@Override
+	public String getDescription() {
+		if (incremental) {
+			return "Runs the KeYmaera check for all skills that were changed since their last check";
+		}
+		return "Runs the KeYmaera check for all skills of the graph, starting with the leaf skills";
+	}
+
+	@Override
+	public boolean canExecute(ICustomContext context) {
+		return getGraph() != null;
+	}
+
+	@Override
+	public boolean hasDoneChanges() {
+		return false;
+	}
+
+	@Override
+	public void execute(ICustomContext context) {
+		Graph graph = getGraph();
+		VerificationTracker tracker = VerificationTracker.forGraph(graph);
+		List<Node> nodes;
+		if (incremental) {
+			nodes = tracker.getDirtyNodes();
+			if (nodes.isEmpty()) {
+				MessageDialog.openInformation(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell(),
+						"Verification report", "All skills are up to date.");
+				return;
+			}
+		} else {
+			nodes = new ArrayList<Node>();
+			if (graph.getRootNode() != null) {
+				nodes.add(graph.getRootNode());
+			}
+			nodes.addAll(graph.getNodes());
+		}
+
+		IProject project = ResourceUtil.getProject(getDiagram());
+		ProofCache cache = ProofCache.forProject(project);
+		GraphVerificationJob job = new GraphVerificationJob("Verify " + getDiagram().getName(), graph, nodes,
+				ResourceUtil.getTemplateRegistry(project), ProofJob.DEFAULT_TIMEOUT, cache, this::showReport);
+		job.setResultListener(tracker::checked);
+		job.schedule();
+	}
+
+	private void showReport(VerificationReport report) {
+		Display.getDefault().asyncExec(() -> MessageDialog.openInformation(
+				PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell(), "Verification report", report.format()));
+	}
+
+	private Graph getGraph() {
+		Object bo = getBusinessObjectForPictogramElement(getDiagram());
+		return bo instanceof Graph ? (Graph) bo : null;
+	}
+}
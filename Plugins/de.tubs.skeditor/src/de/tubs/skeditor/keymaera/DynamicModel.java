@@ -1,102 +1,42 @@
 package de.tubs.skeditor.keymaera;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class DynamicModel {
-	private Set<ValuedParameter> valuedParameters = new HashSet<ValuedParameter>();
-	private Map<String, Expression> equations = new HashMap<String, Expression>();
-	private Set<String> variables = new HashSet<String>();
-
-	private String template = "";
-
+	private Set<ValuedParameter> valuedParameters = new LinkedHashSet<ValuedParameter>();
+	private Map<String, Expression> equations = new LinkedHashMap<String, Expression>();
+	private Set<String> variables = new LinkedHashSet<String>();
+
+	// null for the built-in templates
+	private final Template template;
+
+	/**
+	 * @param template
+	 *            the template text, or an empty string for the built-in
+	 *            templates of the {@link TemplateRegistry}
+	 */
 	public DynamicModel(String template) {
-		this.template = template;
+		this.template = template.equals("") ? null : Template.compile(template);
 	}
 
-	private SymbolicMatrix parseMatrix(String str) { // [[a,b],[c,d]]
-		str = str.trim().replaceAll(" ", "");
-
-		String[] spl = str.split("\\],\\[");
-
-		SymbolicMatrix sm = new SymbolicMatrix();
-
-		for (String row : spl) {
-			SymbolicVector v = new SymbolicVector();
-			row = row.replace("[", "").replace("]", "");
-			for (String el : row.split(",")) {
-				v.addExpression(new Expression(el));
-			}
-			sm.addRow(v);
-		}
-
-		if (!str.trim().startsWith("[["))
-			sm = sm.transpose();
-
-		return sm;
+	public DynamicModel(Template template) {
+		this.template = template;
 	}
 
+	/**
+	 * Adds the equations of a state space model like
+	 * <code>[x1',x2'] = [[0,1],[-a,-b]]*[x1,x2] + [[0],[1]]*[u]</code>, see
+	 * {@link MatrixEquationParser}.
+	 */
 	public void parse(String expression) throws ParsingException {
-		String[] rl = expression.split("=");
-		// System.out.println(expression);
-		if (rl.length != 2)
-			throw new ParsingException("Assignment ('=') missing!");
-
-		SymbolicMatrix sm = parseMatrix(rl[0]);
-		List<SymbolicMatrix> matrices = new ArrayList<SymbolicMatrix>();
-
-		// Semantic blow up
-		rl[1] = rl[1].replace(" ", "").replace("]-", "]+(-1)*");
-		rl[1] = rl[1].replace("]+", "]++");
-		rl[1] = rl[1].replace("*[", "**[");
-
-		String[] terms = rl[1].split("\\+\\+"); // get addition first
-
-		for (String summand : terms) {
-			// multiplication
-			String[] factors = summand.split("\\*\\*");
-
-			SymbolicMatrix eval = null;
-			int counter = 1;
-			if (factors.length > 1 && isScalar(factors[0])) {
-				eval = parseMatrix(factors[1]).multiply(new Expression(factors[0]));
-				counter = 2;
-			} else {
-				eval = parseMatrix(factors[0]);
-			}
-
-			for (int i = counter; i < factors.length; ++i) {
-				eval = eval.multiply(parseMatrix(factors[i]));
-			}
-
-			matrices.add(eval); // should be vectors for simple models
-		}
-
-		SymbolicMatrix sm2 = matrices.get(0);
-		for (int i = 1; i < matrices.size(); ++i) {
-			sm2 = sm2.addMatrix(matrices.get(i));
-		}
-
-		for (int i = 0; i < sm.rows(); ++i) {
-			equations.put(sm.get(i, 0).toString(), sm2.get(i, 0));
-		}
-
-		// Debug test
-
-		// for (Entry<String, Expression> e : equations.entrySet()) {
-		// System.out.println(e.getKey() + " = " + e.getValue());
-		// }
-	}
-
-	private boolean isScalar(String string) {
-		// TODO Auto-generated method stub
-		return !string.matches("\\[(.*)\\]");
+		equations.putAll(MatrixEquationParser.parse(expression));
 	}
 
 	public void addConstant(ValuedParameter c) {
@@ -123,104 +63,105 @@ public class DynamicModel {
 	}
 
 	public String createKeYmaeraProgram(String precondition, String postcondition) throws IOException {
-		String contents = template;
-		if (contents.equals("")) {
-			contents = Templater.getKeepDistanceTemplate();
-		}
+		StringBuilder builder = new StringBuilder();
+		writeKeYmaeraProgram(precondition, postcondition, builder);
+		return builder.toString();
+	}
 
-		String consts = "";
-		String constvalues = "";
-		String and = "";
+	/**
+	 * Writes the program in a single pass. Parameters and equations are
+	 * written in the order they were added, symbols of the equations in
+	 * alphabetical order, so equal models always give the same text.
+	 */
+	public void writeKeYmaeraProgram(String precondition, String postcondition, Appendable out) throws IOException {
+		Template contents = template != null ? template : TemplateRegistry.getKeepDistanceTemplate();
+
+		Set<String> programVariables = new LinkedHashSet<String>(variables);
+		StringBuilder consts = new StringBuilder();
+		StringBuilder constvalues = new StringBuilder();
 		for (ValuedParameter c : valuedParameters) {
 			if (c.isVar()) {
-				variables.add(c.getName());
+				programVariables.add(c.getName());
 			} else {
-				consts += c.declaration() + "\n  ";
+				consts.append(c.declaration()).append("\n  ");
 			}
-			if (!c.toString().equals("")) {
-				constvalues += and + c.toString();
-				and = " & ";
+			String value = c.toString();
+			if (!value.equals("")) {
+				if (constvalues.length() > 0) {
+					constvalues.append(" & ");
+				}
+				constvalues.append(value);
 			}
-
 		}
 
-		String dynamic = "";
+		StringBuilder dynamic = new StringBuilder();
 		for (Entry<String, Expression> e : equations.entrySet()) {
-			dynamic += e.getKey() + " = " + e.getValue() + ", ";
-			variables.addAll(e.getValue().getSymbols());
+			if (dynamic.length() > 0) {
+				dynamic.append(", ");
+			}
+			dynamic.append(e.getKey()).append(" = ").append(e.getValue().toString());
+			programVariables.addAll(new TreeSet<String>(e.getValue().getSymbols()));
 		}
 
 		for (ValuedParameter para : valuedParameters) {
 			if (!para.isVar()) {
-				variables.remove(para.getName());
+				programVariables.remove(para.getName());
 			}
 		}
 
-		String vars = "";
-		for (String v : variables) {
-			vars += "R " + v + ".\n  ";
+		StringBuilder vars = new StringBuilder();
+		for (String v : programVariables) {
+			vars.append("R ").append(v).append(".\n  ");
 		}
 
-		dynamic = dynamic.substring(0, dynamic.length() - 2);
-
-		// Replacement
-		contents = contents.replace("%%constants%%", consts);
-		contents = contents.replace("%%variables%%", vars);
-		contents = contents.replace("%%constvalues%%", constvalues);
-		contents = contents.replace("%%dynamic%%", dynamic);
-		contents = contents.replace("%%assume%%", precondition);
-		contents = contents.replace("%%safe%%", postcondition);
-		//System.out.println(contents);
-		return contents;
+		Map<String, CharSequence> values = new HashMap<String, CharSequence>();
+		values.put("constants", consts);
+		values.put("variables", vars);
+		values.put("constvalues", constvalues);
+		values.put("dynamic", dynamic);
+		values.put("assume", precondition);
+		values.put("safe", postcondition);
+		contents.render(values, out);
 	}
 
 	public String createKeYmaeraProgramDepcrecated(String precondition, String postcondition) throws IOException {
-		String contents = template;
-		if (contents.equals("")) {
-			contents = Templater.getTemplate();
-		}
+		Template contents = template != null ? template : TemplateRegistry.getBundleTemplate();
 
-		String consts = "";
+		StringBuilder consts = new StringBuilder();
+		StringBuilder initial = new StringBuilder();
 		for (ValuedParameter c : valuedParameters) {
-			consts += "R " + c.getName() + ".\n";
-		}
-
-		String initial = "";
-		for (ValuedParameter c : valuedParameters) {
-			initial += c.getName() + " = " + c.getValue() + " & ";
-		}
-		if (initial.length() >= 3)
-			initial = initial.substring(0, initial.length() - 3);
-
-		String bounds = "";
-
-		String vars = "";
-		for (String v : variables) {
-			vars += "R " + v + ".\n";
+			consts.append("R ").append(c.getName()).append(".\n");
+			if (initial.length() > 0) {
+				initial.append(" & ");
+			}
+			initial.append(c.getName()).append(" = ").append(c.getValue());
 		}
 
-		String program = "";
+		StringBuilder vars = new StringBuilder();
+		StringBuilder program = new StringBuilder();
 		for (String v : variables) {
-			program += v + " := *;\n";
+			vars.append("R ").append(v).append(".\n");
+			program.append(v).append(" := *;\n");
 		}
 
-		String dynamic = "";
+		StringBuilder dynamic = new StringBuilder();
 		for (Entry<String, Expression> e : equations.entrySet()) {
-			dynamic += e.getKey() + " = " + e.getValue() + ",\n";
+			if (dynamic.length() > 0) {
+				dynamic.append(",\n");
+			}
+			dynamic.append(e.getKey()).append(" = ").append(e.getValue().toString());
 		}
-		dynamic = dynamic.substring(0, dynamic.length() - 2);
-
-		// Replacement
-		contents = contents.replace("%%init%%", initial);
-		contents = contents.replace("%%constants%%", consts);
-		contents = contents.replace("%%variables%%", vars);
-		contents = contents.replace("%%bounds%%", bounds);
-		contents = contents.replace("%%program%%", program);
-		contents = contents.replace("%%dynamic%%", dynamic);
-		contents = contents.replace("%%precondition%%", precondition);
-		contents = contents.replace("%%postcondition%%", postcondition);
-
-		return contents;
+
+		Map<String, CharSequence> values = new HashMap<String, CharSequence>();
+		values.put("init", initial);
+		values.put("constants", consts);
+		values.put("variables", vars);
+		values.put("bounds", "");
+		values.put("program", program);
+		values.put("dynamic", dynamic);
+		values.put("precondition", precondition);
+		values.put("postcondition", postcondition);
+		return contents.render(values);
 	}
 
 	public void addEquation(String eq) {
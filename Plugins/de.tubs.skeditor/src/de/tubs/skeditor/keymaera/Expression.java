@@ -1,81 +1,102 @@
 package de.tubs.skeditor.keymaera;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Immutable arithmetic expression. Internally the expression is a hash-consed
+ * {@link Term} tree, so building large expressions from smaller ones shares
+ * the operands instead of copying their text. The text in KeYmaera X syntax
+ * and the symbols are computed on first use.
+ */
 public class Expression {
-	private Set<String> symbols = new HashSet<String>();;
-	private String expr;
-
-	private void parseSymbols(String expr) {
-		String pattern = "*+/- ()=";
-		String tmp = expr;
-		for (Character c : pattern.toCharArray()) {
-			tmp = tmp.replace(c.charValue(), ' ');
-		}
+	private final Term term;
+	private volatile Set<String> symbols;
+	private volatile String text;
+
+	Expression(Term term) {
+		this.term = term;
+	}
 
-		for (String symbol : tmp.split(" ")) {
-			if (!symbol.trim().isEmpty())
-				try {
-					Double.parseDouble(symbol);
-				} catch (Exception e) {
-					symbols.add(symbol.trim());
-				}
+	/**
+	 * Parses the expression. Text outside of the supported arithmetic subset
+	 * is kept as it is.
+	 */
+	public Expression(String expr) {
+		Term parsed;
+		try {
+			parsed = TermParser.parse(expr);
+		} catch (IllegalArgumentException e) {
+			parsed = Term.opaque(expr.trim());
 		}
+		this.term = parsed;
 	}
 
-	private Expression(String expr, Set<String> symbols) {
-		this.expr = expr;
-		this.symbols = symbols;
+	Term getTerm() {
+		return term;
 	}
 
-	public Expression(String expr) {
-		this.expr = expr;
-		parseSymbols(expr);
+	/**
+	 * @return whether the expression is the constant zero
+	 */
+	public boolean isZero() {
+		return term.isZero();
 	}
 
 	public Set<String> getSymbols() {
-		return symbols;
+		Set<String> result = symbols;
+		if (result == null) {
+			result = Collections.unmodifiableSet(term.symbols());
+			symbols = result;
+		}
+		return result;
 	}
 
+	/**
+	 * @return the expression in the canonical polynomial form of the
+	 *         {@link Simplifier}
+	 */
 	public Expression simplify() {
-		String str = expr;
-		str = str.replace("+0", "");
-		str = str.replace("-0", "");
-		str = str.replace("-1*", "-");
-		str = str.replace("+-", "-");
-		str = str.replace("-+", "-");
-		// what else??
-		return new Expression(str);
-	}
-
-	private Expression concat(Expression right, String op) {
-		return new Expression("(" + this.expr + ")" + op + "(" + right.expr + ")", Stream.concat(symbols.stream(), right.symbols.stream()).collect(Collectors.toSet()));
+		Term simplified = Simplifier.simplify(term);
+		return simplified == term ? this : new Expression(simplified);
 	}
 
 	public Expression add(Expression right) {
-		return concat(right, "+");
+		return new Expression(Term.add(term, right.term));
 	}
 
 	public Expression substract(Expression right) {
-		return concat(right, "-");
+		return new Expression(Term.subtract(term, right.term));
 	}
 
 	public Expression multiply(Expression right) {
-		if (this.toString().trim().equals("0") || right.toString().trim().equals("0"))
-			return new Expression("0");
+		if (term.isZero() || right.term.isZero())
+			return new Expression(Term.ZERO);
 
-		return concat(right, "*");
+		return new Expression(Term.multiply(term, right.term));
 	}
 
 	public Expression divide(Expression right) {
-		return concat(right, "/");
+		return new Expression(Term.divide(term, right.term));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Expression && ((Expression) obj).term == term;
+	}
+
+	@Override
+	public int hashCode() {
+		return term.hashCode();
 	}
 
 	public String toString() {
-		return expr;
+		String result = text;
+		if (result == null) {
+			result = term.toString();
+			text = result;
+		}
+		return result;
 	}
 
 	public static void main(String[] args) {
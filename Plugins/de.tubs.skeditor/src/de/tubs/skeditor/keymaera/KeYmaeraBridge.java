@@ -16,6 +16,16 @@ import scala.collection.immutable.Map;
 
 public class KeYmaeraBridge {
 
+	/**
+	 * Name of the tactic used by {@link #prove(Formula)}, part of the proof cache key
+	 */
+	public static final String TACTIC_NAME = "master";
+
+	/**
+	 * Name of the tool provider installed by {@link #init()}, part of the proof cache key
+	 */
+	public static final String TOOL_PROVIDER_NAME = "Z3";
+
 	static final edu.cmu.cs.ls.keymaerax.parser.KeYmaeraXParser$ parser = edu.cmu.cs.ls.keymaerax.parser.KeYmaeraXParser$.MODULE$;
 	static final edu.cmu.cs.ls.keymaerax.parser.KeYmaeraXArchiveParser$ archiveParser = edu.cmu.cs.ls.keymaerax.parser.KeYmaeraXArchiveParser$.MODULE$;
 	static final edu.cmu.cs.ls.keymaerax.parser.StringConverter$ stringConverter = edu.cmu.cs.ls.keymaerax.parser.StringConverter$.MODULE$;
@@ -44,6 +54,10 @@ public class KeYmaeraBridge {
 		return archiveParser.parseAsFormula(contents);
 	}
 
+	public static Formula parseFormula(String content) {
+		return stringConverter.StringToStringConverter(content).asFormula();
+	}
+
 	public static java.util.HashMap<String, String> getConfig() {
 		java.util.HashMap<String, String> c = new HashMap<String, String>();
 		c.put("linkName", "C:\\Program Files\\Wolfram Research\\Mathematica\\11.2\\MathKernel.exe"); // path
@@ -55,13 +69,37 @@ public class KeYmaeraBridge {
 		return JavaConverters.mapAsScalaMapConverter(m).asScala().toMap(Predef.<Tuple2<A, B>>conforms());
 	}
 
-	private void init() {
+	private static boolean toolProviderInstalled;
+
+	/**
+	 * Installs the tool provider. The provider is global to KeYmaera X and shared
+	 * by all bridges, it is only installed again after {@link #shutdownToolProvider()}.
+	 */
+	public static synchronized void init() {
+		if (toolProviderInstalled) {
+			return;
+		}
 		//belleInterpreter.setInterpreter(new edu.cmu.cs.ls.keymaerax.bellerophon.SequentialInterpreter(edu.cmu.cs.ls.keymaerax.bellerophon.SequentialInterpreter.apply$default$1()));
 
 		edu.cmu.cs.ls.keymaerax.btactics.ToolProvider$.MODULE$.setProvider(new edu.cmu.cs.ls.keymaerax.btactics.Z3ToolProvider(null));
 		// edu.cmu.cs.ls.keymaerax.btactics.ToolProvider$.MODULE$.setProvider(new
 		// edu.cmu.cs.ls.keymaerax.btactics.MathematicaToolProvider(toScalaMap(getConfig())));
+		toolProviderInstalled = true;
+	}
+
+	/**
+	 * Shuts the tool provider and its Z3 process down, the next bridge installs
+	 * a new one.
+	 */
+	public static synchronized void shutdownToolProvider() {
+		if (toolProviderInstalled) {
+			edu.cmu.cs.ls.keymaerax.btactics.ToolProvider$.MODULE$.shutdown();
+			toolProviderInstalled = false;
+		}
+	}
 
+	public static synchronized boolean isToolProviderInstalled() {
+		return toolProviderInstalled;
 	}
 
 	public KeYmaeraBridge() {
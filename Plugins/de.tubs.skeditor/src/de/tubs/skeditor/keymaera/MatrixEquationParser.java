@@ -0,0 +1,352 @@
+package de.tubs.skeditor.keymaera;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses state space equations like
+ * <code>[x1',x2'] = [[0,1],[-a/b,-c]]*[x1,x2] + [[0],[1/m]]*u - [0,g]</code>
+ * in a single pass. The right hand side is evaluated while it is parsed:
+ * <ul>
+ * <li><code>[a,b]</code> is a column vector, <code>[[a,b],[c,d]]</code> a
+ * matrix given row by row</li>
+ * <li>matrices and scalars can be added, subtracted and multiplied in any
+ * order, matrices can be divided by scalars</li>
+ * <li>unary minus and parentheses can be nested arbitrarily</li>
+ * <li>function applications like <code>cos(t)</code> and powers are kept as
+ * they are written</li>
+ * </ul>
+ * Errors are reported with the offset in the text.
+ */
+public class MatrixEquationParser {
+
+	private static final int EOF = 0;
+	private static final int NUMBER = 1;
+	private static final int IDENTIFIER = 2;
+	private static final int OPERATOR = 3;
+
+	private static final Expression MINUS_ONE = new Expression(Term.negate(Term.ONE));
+
+	private final String text;
+	private int pos;
+
+	// current token
+	private int type;
+	private int start;
+	private String token;
+	// end of the previous token
+	private int end;
+
+	private MatrixEquationParser(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * @return the simplified right hand side for each variable of the left
+	 *         hand side, in the order of the left hand side
+	 * @throws ParsingException
+	 *             if the text is not a valid equation or the dimensions do not
+	 *             match
+	 */
+	public static Map<String, Expression> parse(String text) throws ParsingException {
+		MatrixEquationParser parser = new MatrixEquationParser(text);
+		parser.next();
+		int leftStart = parser.start;
+		Value left = parser.sum();
+		if (!left.isMatrix() || left.matrix.cols() != 1) {
+			throw new ParsingException("Left hand side must be a vector", leftStart);
+		}
+		parser.expect("=");
+		int rightStart = parser.start;
+		Value right = parser.sum();
+		if (parser.type != EOF) {
+			throw parser.error("Unexpected '" + parser.token + "'");
+		}
+		if (!right.isMatrix() || right.matrix.cols() != 1 || right.matrix.rows() != left.matrix.rows()) {
+			throw new ParsingException("Right hand side must be a vector with " + left.matrix.rows() + " rows",
+					rightStart);
+		}
+
+		Map<String, Expression> equations = new LinkedHashMap<String, Expression>();
+		for (int i = 0; i < left.matrix.rows(); ++i) {
+			equations.put(left.matrix.get(i, 0).toString(), right.matrix.get(i, 0).simplify());
+		}
+		return equations;
+	}
+
+	private Value sum() throws ParsingException {
+		Value value = product();
+		while (true) {
+			int operator = start;
+			if (accept("+")) {
+				value = add(value, product(), operator);
+			} else if (accept("-")) {
+				value = add(value, negate(product()), operator);
+			} else {
+				return value;
+			}
+		}
+	}
+
+	private Value product() throws ParsingException {
+		Value value = unary();
+		while (true) {
+			int operator = start;
+			if (accept("*")) {
+				value = multiply(value, unary(), operator);
+			} else if (accept("/")) {
+				Value divisor = unary();
+				if (divisor.isMatrix()) {
+					throw new ParsingException("Division by a matrix", operator);
+				}
+				if (value.isMatrix()) {
+					Expression reciprocal = new Expression(Term.divide(Term.ONE, divisor.scalar.getTerm()));
+					value = new Value(value.matrix.multiply(reciprocal));
+				} else {
+					value = new Value(value.scalar.divide(divisor.scalar));
+				}
+			} else {
+				return value;
+			}
+		}
+	}
+
+	private Value unary() throws ParsingException {
+		if (accept("-")) {
+			return negate(unary());
+		}
+		if (accept("+")) {
+			return unary();
+		}
+		return power();
+	}
+
+	/**
+	 * Powers are not part of the arithmetic subset of {@link Expression}, so
+	 * they are kept as written.
+	 */
+	private Value power() throws ParsingException {
+		int first = start;
+		Value value = primary();
+		if (!accept("^")) {
+			return value;
+		}
+		Value exponent = unary();
+		if (value.isMatrix() || exponent.isMatrix()) {
+			throw new ParsingException("Power of a matrix", first);
+		}
+		return new Value(new Expression(text.substring(first, end)));
+	}
+
+	private Value primary() throws ParsingException {
+		int first = start;
+		if (accept("(")) {
+			Value value = sum();
+			expect(")");
+			return value;
+		}
+		if (accept("[")) {
+			return new Value(matrix());
+		}
+		if (type == NUMBER) {
+			String literal = token;
+			next();
+			return new Value(new Expression(Term.constant(literal)));
+		}
+		if (type == IDENTIFIER) {
+			String name = token;
+			next();
+			if (accept("(")) {
+				// function application, the arguments are only checked
+				if (!accept(")")) {
+					scalar();
+					while (accept(",")) {
+						scalar();
+					}
+					expect(")");
+				}
+				return new Value(new Expression(text.substring(first, end)));
+			}
+			return new Value(new Expression(Term.symbol(name)));
+		}
+		throw error(type == EOF ? "Unexpected end of input" : "Unexpected '" + token + "'");
+	}
+
+	/**
+	 * Parses the rest of a matrix literal after the opening bracket.
+	 */
+	private SymbolicMatrix matrix() throws ParsingException {
+		SymbolicMatrix sm = new SymbolicMatrix();
+		if (type == OPERATOR && token.equals("[")) {
+			// rows
+			do {
+				int rowStart = start;
+				expect("[");
+				SymbolicVector row = row();
+				if (sm.rows() > 0 && row.length() != sm.cols()) {
+					throw new ParsingException("Row has " + row.length() + " columns instead of " + sm.cols(),
+							rowStart);
+				}
+				sm.addRow(row);
+			} while (accept(","));
+			expect("]");
+		} else {
+			// column vector
+			SymbolicVector column = row();
+			for (int i = 0; i < column.length(); ++i) {
+				sm.addRow(new SymbolicVector(column.get(i)));
+			}
+		}
+
+		// state space matrices are mostly zero
+		if (SparseSymbolicMatrix.isSparse(sm))
+			sm = new SparseSymbolicMatrix(sm);
+		return sm;
+	}
+
+	/**
+	 * Parses comma separated scalars until the closing bracket.
+	 */
+	private SymbolicVector row() throws ParsingException {
+		SymbolicVector row = new SymbolicVector();
+		do {
+			row.addExpression(scalar());
+		} while (accept(","));
+		expect("]");
+		return row;
+	}
+
+	private Expression scalar() throws ParsingException {
+		int first = start;
+		Value value = sum();
+		if (value.isMatrix()) {
+			throw new ParsingException("Scalar expected", first);
+		}
+		return value.scalar;
+	}
+
+	private static Value add(Value left, Value right, int operator) throws ParsingException {
+		if (left.isMatrix() != right.isMatrix()) {
+			throw new ParsingException("Addition of a matrix and a scalar", operator);
+		}
+		if (left.isMatrix()) {
+			if (left.matrix.rows() != right.matrix.rows() || left.matrix.cols() != right.matrix.cols()) {
+				throw new ParsingException("Addition of a " + dimensions(left.matrix) + " and a "
+						+ dimensions(right.matrix) + " matrix", operator);
+			}
+			return new Value(left.matrix.addMatrix(right.matrix));
+		}
+		return new Value(left.scalar.add(right.scalar));
+	}
+
+	private static Value multiply(Value left, Value right, int operator) throws ParsingException {
+		if (left.isMatrix() && right.isMatrix()) {
+			if (left.matrix.cols() != right.matrix.rows()) {
+				throw new ParsingException("Multiplication of a " + dimensions(left.matrix) + " and a "
+						+ dimensions(right.matrix) + " matrix", operator);
+			}
+			return new Value(left.matrix.multiply(right.matrix));
+		}
+		if (left.isMatrix()) {
+			return new Value(left.matrix.multiply(right.scalar));
+		}
+		if (right.isMatrix()) {
+			return new Value(right.matrix.multiply(left.scalar));
+		}
+		return new Value(left.scalar.multiply(right.scalar));
+	}
+
+	private static Value negate(Value value) {
+		if (value.isMatrix()) {
+			return new Value(value.matrix.multiply(MINUS_ONE));
+		}
+		return new Value(new Expression(Term.negate(value.scalar.getTerm())));
+	}
+
+	private static String dimensions(SymbolicMatrix sm) {
+		return sm.rows() + "x" + sm.cols();
+	}
+
+	private boolean accept(String operator) throws ParsingException {
+		if (type == OPERATOR && token.equals(operator)) {
+			next();
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(String operator) throws ParsingException {
+		if (!accept(operator)) {
+			throw error("'" + operator + "' expected");
+		}
+	}
+
+	private ParsingException error(String message) {
+		return new ParsingException(message, start);
+	}
+
+	/**
+	 * Reads the next token.
+	 */
+	private void next() throws ParsingException {
+		end = pos;
+		while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+			pos++;
+		}
+		start = pos;
+		if (pos == text.length()) {
+			type = EOF;
+			token = "";
+			return;
+		}
+		char c = text.charAt(pos);
+		if (Character.isDigit(c) || c == '.' && pos + 1 < text.length() && Character.isDigit(text.charAt(pos + 1))) {
+			while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+				pos++;
+			}
+			if (pos < text.length() - 1 && text.charAt(pos) == '.' && Character.isDigit(text.charAt(pos + 1))) {
+				pos++;
+				while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+					pos++;
+				}
+			}
+			type = NUMBER;
+		} else if (Character.isLetter(c)) {
+			while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+				pos++;
+			}
+			while (pos < text.length() && text.charAt(pos) == '\'') {
+				pos++;
+			}
+			type = IDENTIFIER;
+		} else if ("[](),=+-*/^".indexOf(c) >= 0) {
+			pos++;
+			type = OPERATOR;
+		} else {
+			throw new ParsingException("Unexpected character '" + c + "'", pos);
+		}
+		token = text.substring(start, pos);
+	}
+
+	/**
+	 * Result of a subexpression, either a matrix or a scalar.
+	 */
+	private static class Value {
+		final SymbolicMatrix matrix;
+		final Expression scalar;
+
+		Value(SymbolicMatrix matrix) {
+			this.matrix = matrix;
+			this.scalar = null;
+		}
+
+		Value(Expression scalar) {
+			this.matrix = null;
+			this.scalar = scalar;
+		}
+
+		boolean isMatrix() {
+			return matrix != null;
+		}
+	}
+}
@@ -7,28 +7,47 @@ public class ParsingException extends Exception {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	private final int position;
+
 	public ParsingException() {
-		// TODO Auto-generated constructor stub
+		position = -1;
 	}
 
 	public ParsingException(String arg0) {
 		super(arg0);
-		// TODO Auto-generated constructor stub
+		position = -1;
 	}
 
 	public ParsingException(Throwable arg0) {
 		super(arg0);
-		// TODO Auto-generated constructor stub
+		position = -1;
 	}
 
 	public ParsingException(String arg0, Throwable arg1) {
 		super(arg0, arg1);
-		// TODO Auto-generated constructor stub
+		position = -1;
 	}
 
 	public ParsingException(String arg0, Throwable arg1, boolean arg2, boolean arg3) {
 		super(arg0, arg1, arg2, arg3);
-		// TODO Auto-generated constructor stub
+		position = -1;
+	}
+
+	/**
+	 * @param position
+	 *            offset of the error in the parsed text
+	 */
+	public ParsingException(String message, int position) {
+		super(message + " at position " + position);
+		this.position = position;
+	}
+
+	/**
+	 * @return the offset of the error in the parsed text or -1 if it is not
+	 *         known
+	 */
+	public int getPosition() {
+		return position;
 	}
 
 }
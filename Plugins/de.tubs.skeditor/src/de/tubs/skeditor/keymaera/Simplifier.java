@@ -0,0 +1,319 @@
+package de.tubs.skeditor.keymaera;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Rewrites terms into a canonical polynomial form. Sums, products and
+ * negations are flattened into a polynomial whose monomials are products of
+ * atoms (symbols, quotients and terms that cannot be expanded). Constants are
+ * folded, like terms are collected, the identity and annihilator rules follow
+ * from the polynomial arithmetic, and monomials and factors are sorted.
+ * Products are flattened into their operands and only expanded if the
+ * expansion is not larger than the product with its sums as factors, e.g.
+ * (a+b)*(a-b) but not (a+b)*(c+d), unless expanding the whole term makes it
+ * smaller. The rewriting is repeated until the term does not change anymore,
+ * but at most {@link #MAX_STEPS} times.
+ */
+class Simplifier {
+
+	static final int MAX_STEPS = 16;
+
+	/**
+	 * Products whose expansion has more monomials than this are not expanded
+	 */
+	static final int MAX_EXPANSION = 256;
+
+	private final Map<Term, Term> simplified = new IdentityHashMap<Term, Term>();
+	private final Map<Term, String> keys = new IdentityHashMap<Term, String>();
+
+	private Simplifier() {
+	}
+
+	static Term simplify(Term term) {
+		for (int step = 0; step < MAX_STEPS; step++) {
+			Term next = new Simplifier().rewrite(term);
+			if (next == term) {
+				break;
+			}
+			term = next;
+		}
+		return term;
+	}
+
+	private Term rewrite(Term term) {
+		Term result = simplified.get(term);
+		if (result == null) {
+			if (term instanceof Term.Add || term instanceof Term.Mul || term instanceof Term.Neg
+					|| term instanceof Term.Const) {
+				result = toTerm(polynomial(term));
+			} else if (term instanceof Term.Div) {
+				result = rewriteDivision((Term.Div) term);
+			} else {
+				result = term;
+			}
+			simplified.put(term, result);
+		}
+		return result;
+	}
+
+	private Term rewriteDivision(Term.Div div) {
+		Term numerator = rewrite(div.left);
+		Term denominator = rewrite(div.right);
+		BigDecimal divisor = constantValue(polynomial(denominator));
+		if (divisor != null && divisor.signum() != 0) {
+			Map<List<Term>, BigDecimal> quotient = new LinkedHashMap<List<Term>, BigDecimal>();
+			try {
+				for (Entry<List<Term>, BigDecimal> monomial : polynomial(numerator).entrySet()) {
+					quotient.put(monomial.getKey(), monomial.getValue().divide(divisor));
+				}
+				return toTerm(quotient);
+			} catch (ArithmeticException e) {
+				// no exact decimal quotient, keep the division
+			}
+		}
+		if (numerator == div.left && denominator == div.right) {
+			return div;
+		}
+		return Term.divide(numerator, denominator);
+	}
+
+	/**
+	 * @return the term as map from the sorted factors of each monomial to its
+	 *         coefficient, without zero coefficients. Of the fully expanded
+	 *         polynomial and the one that keeps the sums of large products as
+	 *         factors, the smaller one is returned, the expanded one on a tie.
+	 */
+	private Map<List<Term>, BigDecimal> polynomial(Term term) {
+		Map<List<Term>, BigDecimal> expanded = polynomial(term, true);
+		Map<List<Term>, BigDecimal> factored = polynomial(term, false);
+		return leaves(factored) < leaves(expanded) ? factored : expanded;
+	}
+
+	private Map<List<Term>, BigDecimal> polynomial(Term term, boolean expand) {
+		Map<List<Term>, BigDecimal> result = new LinkedHashMap<List<Term>, BigDecimal>();
+		collect(term, BigDecimal.ONE, expand, result);
+		return result;
+	}
+
+	/**
+	 * Adds the monomials of the term, multiplied with the coefficient, to the
+	 * polynomial.
+	 *
+	 * @param expand
+	 *            whether products of sums are always expanded, otherwise only
+	 *            if the expansion is not larger than the product
+	 */
+	private void collect(Term term, BigDecimal coefficient, boolean expand, Map<List<Term>, BigDecimal> result) {
+		if (term instanceof Term.Const) {
+			addMonomial(result, Collections.<Term>emptyList(), coefficient.multiply(((Term.Const) term).value));
+		} else if (term instanceof Term.Neg) {
+			collect(((Term.Neg) term).operand, coefficient.negate(), expand, result);
+		} else if (term instanceof Term.Add) {
+			Term.Add add = (Term.Add) term;
+			collect(add.left, coefficient, expand, result);
+			collect(add.right, coefficient, expand, result);
+		} else if (term instanceof Term.Mul) {
+			for (Entry<List<Term>, BigDecimal> monomial : product((Term.Mul) term, expand).entrySet()) {
+				addMonomial(result, monomial.getKey(), coefficient.multiply(monomial.getValue()));
+			}
+		} else {
+			Term atom = rewrite(term);
+			if (atom instanceof Term.Add || atom instanceof Term.Mul || atom instanceof Term.Neg
+					|| atom instanceof Term.Const) {
+				// a quotient that was folded into a polynomial
+				collect(atom, coefficient, expand, result);
+			} else {
+				addMonomial(result, Collections.singletonList(atom), coefficient);
+			}
+		}
+	}
+
+	/**
+	 * Multiplies the operands of a product, however it is grouped. Operands
+	 * with a single monomial are multiplied out, the sums are expanded unless
+	 * the expansion of the whole product is larger than the product with the
+	 * sums as sorted factors.
+	 */
+	private Map<List<Term>, BigDecimal> product(Term.Mul mul, boolean expand) {
+		List<Term> operands = new ArrayList<Term>();
+		addOperands(mul, operands);
+		Map<List<Term>, BigDecimal> monomial = polynomial(Term.ONE, expand);
+		List<Map<List<Term>, BigDecimal>> sums = new ArrayList<Map<List<Term>, BigDecimal>>();
+		long expansion = 1;
+		for (Term operand : operands) {
+			Map<List<Term>, BigDecimal> polynomial = polynomial(operand, expand);
+			if (polynomial.size() > 1) {
+				sums.add(polynomial);
+				expansion = Math.min(expansion * polynomial.size(), MAX_EXPANSION + 1);
+			} else {
+				monomial = multiply(monomial, polynomial);
+			}
+		}
+		if (monomial.isEmpty() || sums.isEmpty()) {
+			return monomial;
+		}
+
+		Map<List<Term>, BigDecimal> expanded = null;
+		if (expansion <= MAX_EXPANSION) {
+			expanded = monomial;
+			for (Map<List<Term>, BigDecimal> sum : sums) {
+				expanded = multiply(expanded, sum);
+			}
+			if (expand) {
+				return expanded;
+			}
+		}
+		Map<List<Term>, BigDecimal> factored = monomial;
+		for (Map<List<Term>, BigDecimal> sum : sums) {
+			factored = multiply(factored, Collections.singletonMap(Collections.singletonList(toTerm(sum)), BigDecimal.ONE));
+		}
+		return expanded != null && leaves(expanded) <= leaves(factored) ? expanded : factored;
+	}
+
+	private static void addOperands(Term term, List<Term> operands) {
+		if (term instanceof Term.Mul) {
+			addOperands(((Term.Mul) term).left, operands);
+			addOperands(((Term.Mul) term).right, operands);
+		} else {
+			operands.add(term);
+		}
+	}
+
+	private Map<List<Term>, BigDecimal> multiply(Map<List<Term>, BigDecimal> left, Map<List<Term>, BigDecimal> right) {
+		Map<List<Term>, BigDecimal> product = new LinkedHashMap<List<Term>, BigDecimal>();
+		for (Entry<List<Term>, BigDecimal> l : left.entrySet()) {
+			for (Entry<List<Term>, BigDecimal> r : right.entrySet()) {
+				List<Term> factors = new ArrayList<Term>(l.getKey());
+				factors.addAll(r.getKey());
+				factors.sort(this::compareFactors);
+				addMonomial(product, factors, l.getValue().multiply(r.getValue()));
+			}
+		}
+		return product;
+	}
+
+	private static void addMonomial(Map<List<Term>, BigDecimal> polynomial, List<Term> factors, BigDecimal coefficient) {
+		BigDecimal sum = polynomial.containsKey(factors) ? polynomial.get(factors).add(coefficient) : coefficient;
+		if (sum.signum() == 0) {
+			polynomial.remove(factors);
+		} else {
+			polynomial.put(factors, sum);
+		}
+	}
+
+	/**
+	 * @return the number of symbols and constants of the polynomial as term,
+	 *         the size that decides whether a product is expanded
+	 */
+	private int leaves(Map<List<Term>, BigDecimal> polynomial) {
+		return leaves(toTerm(polynomial));
+	}
+
+	private static int leaves(Term term) {
+		if (term instanceof Term.Binary) {
+			return leaves(((Term.Binary) term).left) + leaves(((Term.Binary) term).right);
+		}
+		if (term instanceof Term.Neg) {
+			return leaves(((Term.Neg) term).operand);
+		}
+		return 1;
+	}
+
+	/**
+	 * @return the value if the polynomial is constant, otherwise null
+	 */
+	private static BigDecimal constantValue(Map<List<Term>, BigDecimal> polynomial) {
+		if (polynomial.isEmpty()) {
+			return BigDecimal.ZERO;
+		}
+		if (polynomial.size() == 1 && polynomial.containsKey(Collections.<Term>emptyList())) {
+			return polynomial.get(Collections.<Term>emptyList());
+		}
+		return null;
+	}
+
+	/**
+	 * Builds the canonical term: monomials of higher degree first, the
+	 * constant last, negative monomials are subtracted.
+	 */
+	private Term toTerm(Map<List<Term>, BigDecimal> polynomial) {
+		List<List<Term>> monomials = new ArrayList<List<Term>>(polynomial.keySet());
+		monomials.sort(this::compareMonomials);
+		Term sum = null;
+		for (List<Term> factors : monomials) {
+			BigDecimal coefficient = polynomial.get(factors);
+			Term monomial = monomial(factors, coefficient.abs());
+			if (sum == null) {
+				sum = coefficient.signum() < 0 ? Term.negate(monomial) : monomial;
+			} else {
+				sum = coefficient.signum() < 0 ? Term.subtract(sum, monomial) : Term.add(sum, monomial);
+			}
+		}
+		return sum == null ? Term.ZERO : sum;
+	}
+
+	private static Term monomial(List<Term> factors, BigDecimal coefficient) {
+		Term product = null;
+		if (factors.isEmpty() || coefficient.compareTo(BigDecimal.ONE) != 0) {
+			product = Term.constant(literal(coefficient));
+		}
+		for (Term factor : factors) {
+			product = product == null ? factor : Term.multiply(product, factor);
+		}
+		return product;
+	}
+
+	private static String literal(BigDecimal value) {
+		if (value.signum() == 0) {
+			return "0";
+		}
+		return value.stripTrailingZeros().toPlainString();
+	}
+
+	private int compareMonomials(List<Term> left, List<Term> right) {
+		if (left.size() != right.size()) {
+			return right.size() - left.size();
+		}
+		for (int i = 0; i < left.size(); i++) {
+			int c = compareFactors(left.get(i), right.get(i));
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+
+	private int compareFactors(Term left, Term right) {
+		if (left == right) {
+			return 0;
+		}
+		return cachedKey(left).compareTo(cachedKey(right));
+	}
+
+	private String cachedKey(Term term) {
+		String key = keys.get(term);
+		if (key == null) {
+			key = key(term);
+			keys.put(term, key);
+		}
+		return key;
+	}
+
+	/**
+	 * Sort key of a factor, symbols are ordered by name before all compound
+	 * factors.
+	 */
+	private static String key(Term term) {
+		if (term instanceof Term.Symbol) {
+			return "0" + ((Term.Symbol) term).name;
+		}
+		return "1" + term;
+	}
+}
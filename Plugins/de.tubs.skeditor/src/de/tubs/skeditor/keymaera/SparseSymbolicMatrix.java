@@ -0,0 +1,370 @@
+package de.tubs.skeditor.keymaera;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Symbolic matrix that only stores the entries that are not zero, row by row
+ * in compressed sparse row (CSR) form. The system and input matrices of state
+ * space models are mostly zero, so products, sums and transposes skip the
+ * zero entries instead of building and simplifying <code>0*x</code> terms.
+ *
+ * Rows and columns returned by {@link #getRow(int)} and
+ * {@link #getColumn(int)} are copies, changing them does not change the
+ * matrix.
+ */
+public class SparseSymbolicMatrix extends SymbolicMatrix {
+
+	/**
+	 * Matrices with at most this share of non-zero entries are stored sparse by
+	 * {@link #isSparse(SymbolicMatrix)}
+	 */
+	public static final double MAX_DENSITY = 0.5;
+
+	private static final Expression ZERO = new Expression("0");
+
+	private int rows;
+	private int cols;
+	// entries of row i are at rowStart[i] until rowStart[i + 1]
+	private int[] rowStart;
+	private int[] columnIndex;
+	private Expression[] values;
+
+	// entries stored column by column, computed on first use
+	private SparseSymbolicMatrix columns;
+
+	public SparseSymbolicMatrix(int rows, int cols) {
+		this(rows, cols, new int[rows + 1], new int[0], new Expression[0]);
+	}
+
+	/**
+	 * Copies the non-zero entries of the given matrix.
+	 */
+	public SparseSymbolicMatrix(SymbolicMatrix sm) {
+		this.rows = sm.rows();
+		this.cols = sm.cols();
+		this.rowStart = new int[rows + 1];
+		List<Integer> indices = new ArrayList<Integer>();
+		List<Expression> entries = new ArrayList<Expression>();
+		for(int row = 0; row < rows; ++row) {
+			for(int col = 0; col < cols; ++col) {
+				Expression e = sm.get(row, col);
+				if(!e.isZero()) {
+					indices.add(col);
+					entries.add(e);
+				}
+			}
+			rowStart[row + 1] = entries.size();
+		}
+		this.columnIndex = toArray(indices);
+		this.values = entries.toArray(new Expression[entries.size()]);
+	}
+
+	private SparseSymbolicMatrix(int rows, int cols, int[] rowStart, int[] columnIndex, Expression[] values) {
+		this.rows = rows;
+		this.cols = cols;
+		this.rowStart = rowStart;
+		this.columnIndex = columnIndex;
+		this.values = values;
+	}
+
+	/**
+	 * @return whether the matrix has few enough non-zero entries to be stored
+	 *         sparse
+	 */
+	public static boolean isSparse(SymbolicMatrix sm) {
+		int size = sm.rows() * sm.cols();
+		if(size == 0)
+			return false;
+
+		int nonZeros = 0;
+		for(int row = 0; row < sm.rows(); ++row) {
+			for(int col = 0; col < sm.cols(); ++col) {
+				if(!sm.get(row, col).isZero())
+					nonZeros++;
+			}
+		}
+		return nonZeros <= MAX_DENSITY * size;
+	}
+
+	/**
+	 * @return the number of stored entries
+	 */
+	public int nonZeros() {
+		return values.length;
+	}
+
+	@Override
+	public void addRow(SymbolicVector sv) {
+		if(rows > 0 && sv.length() != cols)
+			throw new IllegalArgumentException("Wrong dimensions!");
+
+		int count = 0;
+		for(int i = 0; i < sv.length(); ++i) {
+			if(!sv.get(i).isZero())
+				count++;
+		}
+		int start = values.length;
+		columnIndex = Arrays.copyOf(columnIndex, start + count);
+		values = Arrays.copyOf(values, start + count);
+		int pos = start;
+		for(int i = 0; i < sv.length(); ++i) {
+			if(!sv.get(i).isZero()) {
+				columnIndex[pos] = i;
+				values[pos++] = sv.get(i);
+			}
+		}
+		rowStart = Arrays.copyOf(rowStart, rows + 2);
+		rowStart[rows + 1] = pos;
+		rows++;
+		cols = sv.length();
+		columns = null;
+	}
+
+	@Override
+	public int cols() {
+		return cols;
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public Expression get(int row, int col) {
+		checkBounds(row, col);
+		int pos = find(row, col);
+		return pos >= 0 ? values[pos] : ZERO;
+	}
+
+	@Override
+	public void set(int row, int col, Expression e) {
+		checkBounds(row, col);
+		int pos = find(row, col);
+		if(pos >= 0) {
+			if(e.isZero()) {
+				remove(row, pos);
+			} else {
+				values[pos] = e;
+			}
+		} else if(!e.isZero()) {
+			insert(row, -pos - 1, col, e);
+		}
+		columns = null;
+	}
+
+	@Override
+	public SymbolicVector getRow(int n) {
+		if(n < 0 || n >= rows())
+			throw new IllegalArgumentException("Row out of bounds!");
+
+		SymbolicVector res = SymbolicVector.NullVector(cols);
+		for(int pos = rowStart[n]; pos < rowStart[n + 1]; ++pos) {
+			res.set(columnIndex[pos], values[pos]);
+		}
+		return res;
+	}
+
+	@Override
+	public SymbolicVector getColumn(int n) {
+		if(n < 0 || n >= cols())
+			throw new IllegalArgumentException("Column out of bounds!");
+
+		return columnView().getRow(n);
+	}
+
+	/**
+	 * Multiplies row by row, each non-zero entry a_ik of this matrix is only
+	 * combined with the non-zero entries of row k of the other matrix.
+	 */
+	@Override
+	public SymbolicMatrix multiply(SymbolicMatrix sm) {
+		if(cols() != sm.rows())
+			throw new IllegalArgumentException("Wrong dimensions for multiplication! [this.cols, sm.rows]  = ["+ cols()+ ", " + sm.rows()+ "]");
+
+		SparseSymbolicMatrix other = sm instanceof SparseSymbolicMatrix ? (SparseSymbolicMatrix) sm
+				: new SparseSymbolicMatrix(sm);
+
+		int[] resultStart = new int[rows + 1];
+		List<Integer> indices = new ArrayList<Integer>();
+		List<Expression> entries = new ArrayList<Expression>();
+		Expression[] sums = new Expression[other.cols];
+		int[] used = new int[other.cols];
+		for(int row = 0; row < rows; ++row) {
+			int count = 0;
+			for(int pos = rowStart[row]; pos < rowStart[row + 1]; ++pos) {
+				int k = columnIndex[pos];
+				for(int otherPos = other.rowStart[k]; otherPos < other.rowStart[k + 1]; ++otherPos) {
+					int col = other.columnIndex[otherPos];
+					Expression product = values[pos].multiply(other.values[otherPos]);
+					if(sums[col] == null) {
+						sums[col] = product;
+						used[count++] = col;
+					} else {
+						sums[col] = sums[col].add(product);
+					}
+				}
+			}
+			Arrays.sort(used, 0, count);
+			for(int i = 0; i < count; ++i) {
+				int col = used[i];
+				Expression sum = sums[col].simplify();
+				sums[col] = null;
+				if(!sum.isZero()) {
+					indices.add(col);
+					entries.add(sum);
+				}
+			}
+			resultStart[row + 1] = entries.size();
+		}
+		return new SparseSymbolicMatrix(rows, other.cols, resultStart, toArray(indices),
+				entries.toArray(new Expression[entries.size()]));
+	}
+
+	@Override
+	public SymbolicMatrix transpose() {
+		SparseSymbolicMatrix view = columnView();
+		return new SparseSymbolicMatrix(cols, rows, view.rowStart.clone(), view.columnIndex.clone(),
+				view.values.clone());
+	}
+
+	/**
+	 * @return the transposed matrix, it is cached until the matrix is changed
+	 *         and must not be changed itself
+	 */
+	private SparseSymbolicMatrix columnView() {
+		SparseSymbolicMatrix result = columns;
+		if(result != null)
+			return result;
+
+		int[] start = new int[cols + 1];
+		for(int pos = 0; pos < values.length; ++pos) {
+			start[columnIndex[pos] + 1]++;
+		}
+		for(int col = 0; col < cols; ++col) {
+			start[col + 1] += start[col];
+		}
+		int[] next = Arrays.copyOf(start, cols);
+		int[] indices = new int[values.length];
+		Expression[] entries = new Expression[values.length];
+		for(int row = 0; row < rows; ++row) {
+			for(int pos = rowStart[row]; pos < rowStart[row + 1]; ++pos) {
+				int target = next[columnIndex[pos]]++;
+				indices[target] = row;
+				entries[target] = values[pos];
+			}
+		}
+		result = new SparseSymbolicMatrix(cols, rows, start, indices, entries);
+		columns = result;
+		return result;
+	}
+
+	@Override
+	public SymbolicMatrix addMatrix(SymbolicMatrix sm) {
+		if(cols() != sm.cols() || rows() != sm.rows())
+			throw new IllegalArgumentException("Wrong dimensions for addition!");
+
+		SparseSymbolicMatrix other = sm instanceof SparseSymbolicMatrix ? (SparseSymbolicMatrix) sm
+				: new SparseSymbolicMatrix(sm);
+
+		int[] resultStart = new int[rows + 1];
+		List<Integer> indices = new ArrayList<Integer>();
+		List<Expression> entries = new ArrayList<Expression>();
+		for(int row = 0; row < rows; ++row) {
+			int pos = rowStart[row];
+			int otherPos = other.rowStart[row];
+			while(pos < rowStart[row + 1] || otherPos < other.rowStart[row + 1]) {
+				int col = pos < rowStart[row + 1] ? columnIndex[pos] : Integer.MAX_VALUE;
+				int otherCol = otherPos < other.rowStart[row + 1] ? other.columnIndex[otherPos] : Integer.MAX_VALUE;
+				if(col == otherCol) {
+					indices.add(col);
+					entries.add(values[pos++].add(other.values[otherPos++]));
+				} else if(col < otherCol) {
+					indices.add(col);
+					entries.add(values[pos++]);
+				} else {
+					indices.add(otherCol);
+					entries.add(other.values[otherPos++]);
+				}
+			}
+			resultStart[row + 1] = entries.size();
+		}
+		return new SparseSymbolicMatrix(rows, cols, resultStart, toArray(indices),
+				entries.toArray(new Expression[entries.size()]));
+	}
+
+	@Override
+	public SymbolicMatrix multiply(Expression e) {
+		if(e.isZero())
+			return new SparseSymbolicMatrix(rows, cols);
+
+		Expression[] entries = new Expression[values.length];
+		for(int pos = 0; pos < values.length; ++pos) {
+			entries[pos] = values[pos].multiply(e);
+		}
+		return new SparseSymbolicMatrix(rows, cols, rowStart.clone(), columnIndex.clone(), entries);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder res = new StringBuilder("[");
+		for(int row = 0; row < rows; ++row) {
+			res.append(row == 0 ? "" : ", ").append(getRow(row));
+		}
+		return res.append("]").toString();
+	}
+
+	private void checkBounds(int row, int col) {
+		if(row < 0 || row >= rows())
+			throw new IllegalArgumentException("Row out of bounds!");
+		if(col < 0 || col >= cols())
+			throw new IllegalArgumentException("Column out of bounds!");
+	}
+
+	/**
+	 * @return the position of the entry or -(insertion point) - 1
+	 */
+	private int find(int row, int col) {
+		return Arrays.binarySearch(columnIndex, rowStart[row], rowStart[row + 1], col);
+	}
+
+	private void insert(int row, int pos, int col, Expression e) {
+		int[] indices = new int[columnIndex.length + 1];
+		Expression[] entries = new Expression[values.length + 1];
+		System.arraycopy(columnIndex, 0, indices, 0, pos);
+		System.arraycopy(values, 0, entries, 0, pos);
+		indices[pos] = col;
+		entries[pos] = e;
+		System.arraycopy(columnIndex, pos, indices, pos + 1, columnIndex.length - pos);
+		System.arraycopy(values, pos, entries, pos + 1, values.length - pos);
+		columnIndex = indices;
+		values = entries;
+		for(int i = row + 1; i <= rows; ++i) {
+			rowStart[i]++;
+		}
+	}
+
+	private void remove(int row, int pos) {
+		int[] indices = new int[columnIndex.length - 1];
+		Expression[] entries = new Expression[values.length - 1];
+		System.arraycopy(columnIndex, 0, indices, 0, pos);
+		System.arraycopy(values, 0, entries, 0, pos);
+		System.arraycopy(columnIndex, pos + 1, indices, pos, indices.length - pos);
+		System.arraycopy(values, pos + 1, entries, pos, entries.length - pos);
+		columnIndex = indices;
+		values = entries;
+		for(int i = row + 1; i <= rows; ++i) {
+			rowStart[i]--;
+		}
+	}
+
+	private static int[] toArray(List<Integer> list) {
+		int[] array = new int[list.size()];
+		for(int i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+}
@@ -85,15 +85,21 @@ public class SymbolicMatrix {
 	/*
 	 * 
 	 */
-	SymbolicMatrix multiply(SymbolicMatrix sm) {
+	public SymbolicMatrix multiply(SymbolicMatrix sm) {
 		if(cols() != sm.rows())
 			throw new IllegalArgumentException("Wrong dimensions for multiplication! [this.cols, sm.rows]  = ["+ cols()+ ", " + sm.rows()+ "]");
 		
 		SymbolicMatrix res = new SymbolicMatrix(rows(), sm.cols());
 		
+		// materialize every column once instead of once per row
+		SymbolicVector[] columns = new SymbolicVector[sm.cols()];
+		for(int col = 0; col < sm.cols(); ++col) {
+			columns[col] = sm.getColumn(col);
+		}
+		
 		for(int row = 0; row < rows(); ++row) {
 			for(int col = 0; col < sm.cols(); ++col) {
-				res.set(row, col, data.get(row).multiply(sm.getColumn(col)).simplify());
+				res.set(row, col, data.get(row).multiply(columns[col]).simplify());
 			}
 		}
 		
@@ -0,0 +1,95 @@
+package de.tubs.skeditor.keymaera;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * KeYmaera X template with <code>%%name%%</code> placeholders, see
+ * {@link Templater}. The positions of the placeholders are found once when the
+ * template is compiled, rendering writes the text and the values in a single
+ * pass. Placeholders without a value are written unchanged.
+ */
+public class Template {
+
+	private static final String MARKER = "%%";
+
+	private static final LoadingCache<String, Template> TEMPLATES = CacheBuilder.newBuilder().maximumSize(64)
+			.build(new CacheLoader<String, Template>() {
+				@Override
+				public Template load(String text) {
+					return new Template(text);
+				}
+			});
+
+	// literals[i] is followed by the placeholder names[i], the last literal has
+	// no placeholder
+	private final String[] literals;
+	private final String[] names;
+
+	private Template(String text) {
+		List<String> literals = new ArrayList<String>();
+		List<String> names = new ArrayList<String>();
+		int pos = 0;
+		int search = 0;
+		while (true) {
+			int start = text.indexOf(MARKER, search);
+			int end = start < 0 ? -1 : text.indexOf(MARKER, start + MARKER.length());
+			if (end < 0) {
+				break;
+			}
+			String name = text.substring(start + MARKER.length(), end);
+			if (!name.matches("\\w+")) {
+				// not a placeholder, the second marker may start one
+				search = end;
+				continue;
+			}
+			literals.add(text.substring(pos, start));
+			names.add(name);
+			pos = end + MARKER.length();
+			search = pos;
+		}
+		literals.add(text.substring(pos));
+		this.literals = literals.toArray(new String[literals.size()]);
+		this.names = names.toArray(new String[names.size()]);
+	}
+
+	/**
+	 * @return the compiled template, recently used templates are shared
+	 */
+	public static Template compile(String text) {
+		return TEMPLATES.getUnchecked(text);
+	}
+
+	/**
+	 * Writes the template with the placeholders replaced by the given values.
+	 */
+	public void render(Map<String, ? extends CharSequence> values, Appendable out) throws IOException {
+		for (int i = 0; i < names.length; i++) {
+			out.append(literals[i]);
+			CharSequence value = values.get(names[i]);
+			if (value != null) {
+				out.append(value);
+			} else {
+				out.append(MARKER).append(names[i]).append(MARKER);
+			}
+		}
+		out.append(literals[names.length]);
+	}
+
+	public String render(Map<String, ? extends CharSequence> values) {
+		StringBuilder builder = new StringBuilder();
+		try {
+			render(values, builder);
+		} catch (IOException e) {
+			// not thrown by StringBuilder
+			throw new IllegalStateException(e);
+		}
+		return builder.toString();
+	}
+}
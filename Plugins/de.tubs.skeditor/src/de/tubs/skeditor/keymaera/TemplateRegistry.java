@@ -0,0 +1,164 @@
+package de.tubs.skeditor.keymaera;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Compiled KeYmaera X templates. The built-in templates of {@link Templater}
+ * and the template file of the bundle are compiled once. Users can add
+ * templates per skill category as <code>&lt;category&gt;.template</code> to a
+ * template directory, for example the <code>templates</code> folder of a
+ * project, and a <code>default.template</code> for all other categories.
+ * Template files are compiled again only when their modification stamp
+ * changes. Line endings are normalized to <code>\n</code>.
+ */
+public class TemplateRegistry {
+
+	public static final String FILE_EXTENSION = ".template";
+	public static final String DEFAULT_NAME = "default";
+
+	private static final TemplateRegistry DEFAULT = new TemplateRegistry(null);
+	private static final Map<File, TemplateRegistry> registries = new HashMap<File, TemplateRegistry>();
+
+	private static Template keepDistanceTemplate;
+	private static Template bundleTemplate;
+
+	private final File directory;
+	private final Map<File, CachedTemplate> templates = new HashMap<File, CachedTemplate>();
+
+	private TemplateRegistry(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return the registry that only knows the built-in templates
+	 */
+	public static TemplateRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @param directory
+	 *            the directory of the user templates, it does not need to
+	 *            exist
+	 * @return the shared registry of the directory
+	 */
+	public static synchronized TemplateRegistry forDirectory(File directory) {
+		if (directory == null) {
+			return DEFAULT;
+		}
+		TemplateRegistry registry = registries.get(directory);
+		if (registry == null) {
+			registry = new TemplateRegistry(directory);
+			registries.put(directory, registry);
+		}
+		return registry;
+	}
+
+	/**
+	 * @return the template of the category, the default user template or the
+	 *         built-in keep distance template
+	 */
+	public Template getTemplate(String category) {
+		Template template = findUserTemplate(category);
+		return template != null ? template : getKeepDistanceTemplate();
+	}
+
+	/**
+	 * @param category
+	 *            name of the skill category, may be null
+	 * @return the user template of the category, the default user template or
+	 *         null if there is neither
+	 */
+	public synchronized Template findUserTemplate(String category) {
+		if (directory == null) {
+			return null;
+		}
+		Template template = null;
+		if (category != null) {
+			template = load(new File(directory, category + FILE_EXTENSION));
+		}
+		if (template == null) {
+			template = load(new File(directory, DEFAULT_NAME + FILE_EXTENSION));
+		}
+		return template;
+	}
+
+	/**
+	 * @return the compiled template of the file, or null if the file does not
+	 *         exist or cannot be read
+	 */
+	private Template load(File file) {
+		long stamp = file.lastModified();
+		if (stamp == 0L) {
+			templates.remove(file);
+			return null;
+		}
+		CachedTemplate cached = templates.get(file);
+		if (cached != null && cached.stamp == stamp && cached.length == file.length()) {
+			return cached.template;
+		}
+		try {
+			String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			cached = new CachedTemplate(stamp, file.length(), Template.compile(normalize(text)));
+			templates.put(file, cached);
+			return cached.template;
+		} catch (IOException e) {
+			e.printStackTrace();
+			templates.remove(file);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the compiled {@link Templater#getKeepDistanceTemplate()}
+	 */
+	public static synchronized Template getKeepDistanceTemplate() {
+		if (keepDistanceTemplate == null) {
+			keepDistanceTemplate = Template.compile(normalize(Templater.getKeepDistanceTemplate()));
+		}
+		return keepDistanceTemplate;
+	}
+
+	/**
+	 * @return the compiled template file of the bundle, or
+	 *         {@link Templater#getTemplate()} if the file is missing
+	 */
+	public static synchronized Template getBundleTemplate() {
+		if (bundleTemplate == null) {
+			String text = Templater.getTemplate();
+			try (InputStream in = Templater.class.getResourceAsStream("files/" + Templater.getTemplateFileName())) {
+				if (in != null) {
+					text = new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+			bundleTemplate = Template.compile(normalize(text));
+		}
+		return bundleTemplate;
+	}
+
+	private static String normalize(String text) {
+		return text.replace("\r\n", "\n").replace('\r', '\n');
+	}
+
+	private static class CachedTemplate {
+		final long stamp;
+		final long length;
+		final Template template;
+
+		CachedTemplate(long stamp, long length, Template template) {
+			this.stamp = stamp;
+			this.length = length;
+			this.template = template;
+		}
+	}
+}
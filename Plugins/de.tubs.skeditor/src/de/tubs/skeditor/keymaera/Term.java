@@ -0,0 +1,420 @@
+package de.tubs.skeditor.keymaera;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Immutable, hash-consed node of an {@link Expression} tree. Equal terms are
+ * represented by the same instance, so subterms are shared and can be compared
+ * by identity. Terms are only created by the static factory methods.
+ */
+abstract class Term {
+
+	private static final Interner<Term> TERMS = Interners.newWeakInterner();
+
+	static final Term ZERO = constant("0");
+	static final Term ONE = constant("1");
+
+	// precedence levels used for printing
+	private static final int SUM = 1;
+	private static final int PRODUCT = 2;
+	private static final int UNARY = 3;
+	private static final int ATOM = 4;
+
+	private int hash;
+
+	static Term add(Term left, Term right) {
+		return intern(new Add(left, right));
+	}
+
+	static Term multiply(Term left, Term right) {
+		return intern(new Mul(left, right));
+	}
+
+	static Term divide(Term left, Term right) {
+		return intern(new Div(left, right));
+	}
+
+	static Term negate(Term operand) {
+		return intern(new Neg(operand));
+	}
+
+	static Term subtract(Term left, Term right) {
+		return add(left, negate(right));
+	}
+
+	static Term constant(String literal) {
+		return intern(new Const(literal));
+	}
+
+	static Term symbol(String name) {
+		return intern(new Symbol(name));
+	}
+
+	/**
+	 * A term that could not be parsed. It is printed as it was given.
+	 */
+	static Term opaque(String text) {
+		return intern(new Opaque(text));
+	}
+
+	private static Term intern(Term term) {
+		return TERMS.intern(term);
+	}
+
+	/**
+	 * @return the names of all symbols, shared subterms are visited once
+	 */
+	Set<String> symbols() {
+		Set<String> symbols = new HashSet<String>();
+		Set<Term> visited = Collections.newSetFromMap(new IdentityHashMap<Term, Boolean>());
+		Deque<Term> worklist = new ArrayDeque<Term>();
+		worklist.push(this);
+		while (!worklist.isEmpty()) {
+			Term term = worklist.pop();
+			if (visited.add(term)) {
+				term.collectSymbols(symbols, worklist);
+			}
+		}
+		return symbols;
+	}
+
+	boolean isZero() {
+		return false;
+	}
+
+	boolean isOne() {
+		return false;
+	}
+
+	abstract void collectSymbols(Set<String> symbols, Deque<Term> worklist);
+
+	/**
+	 * Appends the term in KeYmaera X syntax.
+	 */
+	abstract void print(StringBuilder builder);
+
+	abstract int precedence();
+
+	/**
+	 * @return whether the printed term starts with a unary minus
+	 */
+	boolean startsWithMinus() {
+		return false;
+	}
+
+	/**
+	 * Prints the operand and puts it into parentheses if its precedence is
+	 * lower than the required one.
+	 */
+	static void print(StringBuilder builder, Term operand, int required) {
+		if (operand.precedence() < required) {
+			builder.append('(');
+			operand.print(builder);
+			builder.append(')');
+		} else {
+			operand.print(builder);
+		}
+	}
+
+	/**
+	 * Prints an operand that follows an operator, which must not start with
+	 * another minus.
+	 */
+	static void printRight(StringBuilder builder, Term operand, int required) {
+		print(builder, operand, operand.startsWithMinus() ? ATOM + 1 : required);
+	}
+
+	abstract boolean shallowEquals(Term other);
+
+	abstract int shallowHash();
+
+	@Override
+	public final boolean equals(Object obj) {
+		return obj == this || obj != null && obj.getClass() == getClass() && shallowEquals((Term) obj);
+	}
+
+	@Override
+	public final int hashCode() {
+		int h = hash;
+		if (h == 0) {
+			h = shallowHash() * 31 + getClass().hashCode();
+			hash = h;
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		print(builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Base of the binary terms, the operands are interned, so they are
+	 * compared by identity.
+	 */
+	abstract static class Binary extends Term {
+		final Term left;
+		final Term right;
+
+		Binary(Term left, Term right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean startsWithMinus() {
+			return left.startsWithMinus();
+		}
+
+		@Override
+		void collectSymbols(Set<String> symbols, Deque<Term> worklist) {
+			worklist.push(left);
+			worklist.push(right);
+		}
+
+		@Override
+		boolean shallowEquals(Term other) {
+			Binary binary = (Binary) other;
+			return left == binary.left && right == binary.right;
+		}
+
+		@Override
+		int shallowHash() {
+			return System.identityHashCode(left) * 31 + System.identityHashCode(right);
+		}
+	}
+
+	static final class Add extends Binary {
+		Add(Term left, Term right) {
+			super(left, right);
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			print(builder, left, SUM);
+			if (right instanceof Neg) {
+				builder.append('-');
+				printRight(builder, ((Neg) right).operand, PRODUCT);
+			} else {
+				builder.append('+');
+				printRight(builder, right, SUM);
+			}
+		}
+
+		@Override
+		int precedence() {
+			return SUM;
+		}
+	}
+
+	static final class Mul extends Binary {
+		Mul(Term left, Term right) {
+			super(left, right);
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			print(builder, left, PRODUCT);
+			builder.append('*');
+			printRight(builder, right, right instanceof Div ? ATOM : PRODUCT);
+		}
+
+		@Override
+		int precedence() {
+			return PRODUCT;
+		}
+	}
+
+	static final class Div extends Binary {
+		Div(Term left, Term right) {
+			super(left, right);
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			print(builder, left, PRODUCT);
+			builder.append('/');
+			printRight(builder, right, ATOM);
+		}
+
+		@Override
+		int precedence() {
+			return PRODUCT;
+		}
+	}
+
+	static final class Neg extends Term {
+		final Term operand;
+
+		Neg(Term operand) {
+			this.operand = operand;
+		}
+
+		@Override
+		boolean startsWithMinus() {
+			return true;
+		}
+
+		@Override
+		void collectSymbols(Set<String> symbols, Deque<Term> worklist) {
+			worklist.push(operand);
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			builder.append('-');
+			printRight(builder, operand, PRODUCT);
+		}
+
+		@Override
+		int precedence() {
+			return UNARY;
+		}
+
+		@Override
+		boolean shallowEquals(Term other) {
+			return operand == ((Neg) other).operand;
+		}
+
+		@Override
+		int shallowHash() {
+			return System.identityHashCode(operand);
+		}
+	}
+
+	static final class Const extends Term {
+		final String literal;
+		final BigDecimal value;
+
+		Const(String literal) {
+			this.literal = literal;
+			this.value = new BigDecimal(literal);
+		}
+
+		@Override
+		boolean isZero() {
+			return value.signum() == 0;
+		}
+
+		@Override
+		boolean isOne() {
+			return value.compareTo(BigDecimal.ONE) == 0;
+		}
+
+		@Override
+		void collectSymbols(Set<String> symbols, Deque<Term> worklist) {
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			builder.append(literal);
+		}
+
+		@Override
+		int precedence() {
+			return ATOM;
+		}
+
+		@Override
+		boolean shallowEquals(Term other) {
+			return literal.equals(((Const) other).literal);
+		}
+
+		@Override
+		int shallowHash() {
+			return literal.hashCode();
+		}
+	}
+
+	static final class Symbol extends Term {
+		final String name;
+
+		Symbol(String name) {
+			this.name = name;
+		}
+
+		@Override
+		void collectSymbols(Set<String> symbols, Deque<Term> worklist) {
+			symbols.add(name);
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			builder.append(name);
+		}
+
+		@Override
+		int precedence() {
+			return ATOM;
+		}
+
+		@Override
+		boolean shallowEquals(Term other) {
+			return name.equals(((Symbol) other).name);
+		}
+
+		@Override
+		int shallowHash() {
+			return name.hashCode();
+		}
+	}
+
+	static final class Opaque extends Term {
+		final String text;
+
+		Opaque(String text) {
+			this.text = text;
+		}
+
+		@Override
+		void collectSymbols(Set<String> symbols, Deque<Term> worklist) {
+			String pattern = "*+/- ()=";
+			String tmp = text;
+			for (Character c : pattern.toCharArray()) {
+				tmp = tmp.replace(c.charValue(), ' ');
+			}
+
+			for (String symbol : tmp.split(" ")) {
+				if (!symbol.trim().isEmpty())
+					try {
+						Double.parseDouble(symbol);
+					} catch (Exception e) {
+						symbols.add(symbol.trim());
+					}
+			}
+		}
+
+		@Override
+		void print(StringBuilder builder) {
+			builder.append(text);
+		}
+
+		@Override
+		int precedence() {
+			// unknown content, always put into parentheses within other terms
+			return SUM - 1;
+		}
+
+		@Override
+		boolean shallowEquals(Term other) {
+			return Objects.equals(text, ((Opaque) other).text);
+		}
+
+		@Override
+		int shallowHash() {
+			return text.hashCode();
+		}
+	}
+}
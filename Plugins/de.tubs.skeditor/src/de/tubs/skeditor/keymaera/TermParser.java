@@ -0,0 +1,119 @@
+package de.tubs.skeditor.keymaera;
+
+/**
+ * Parses the arithmetic subset of KeYmaera X terms: numbers, variables
+ * (optionally primed), unary minus, +, -, *, / and parentheses.
+ */
+class TermParser {
+
+	private final String text;
+	private int pos;
+
+	private TermParser(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * @return the parsed term
+	 * @throws IllegalArgumentException
+	 *             if the text is not part of the supported subset
+	 */
+	static Term parse(String text) {
+		TermParser parser = new TermParser(text);
+		Term term = parser.sum();
+		parser.skipWhitespace();
+		if (parser.pos != text.length()) {
+			throw parser.error();
+		}
+		return term;
+	}
+
+	private Term sum() {
+		Term term = product();
+		while (true) {
+			if (accept('+')) {
+				term = Term.add(term, product());
+			} else if (accept('-')) {
+				term = Term.subtract(term, product());
+			} else {
+				return term;
+			}
+		}
+	}
+
+	private Term product() {
+		Term term = unary();
+		while (true) {
+			if (accept('*')) {
+				term = Term.multiply(term, unary());
+			} else if (accept('/')) {
+				term = Term.divide(term, unary());
+			} else {
+				return term;
+			}
+		}
+	}
+
+	private Term unary() {
+		if (accept('-')) {
+			return Term.negate(unary());
+		}
+		if (accept('+')) {
+			return unary();
+		}
+		return atom();
+	}
+
+	private Term atom() {
+		skipWhitespace();
+		if (accept('(')) {
+			Term term = sum();
+			if (!accept(')')) {
+				throw error();
+			}
+			return term;
+		}
+		int start = pos;
+		if (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+			while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+				pos++;
+			}
+			if (pos < text.length() - 1 && text.charAt(pos) == '.' && Character.isDigit(text.charAt(pos + 1))) {
+				pos++;
+				while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+					pos++;
+				}
+			}
+			return Term.constant(text.substring(start, pos));
+		}
+		if (pos < text.length() && Character.isLetter(text.charAt(pos))) {
+			while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+				pos++;
+			}
+			while (pos < text.length() && text.charAt(pos) == '\'') {
+				pos++;
+			}
+			return Term.symbol(text.substring(start, pos));
+		}
+		throw error();
+	}
+
+	private boolean accept(char c) {
+		skipWhitespace();
+		if (pos < text.length() && text.charAt(pos) == c) {
+			pos++;
+			return true;
+		}
+		return false;
+	}
+
+	private void skipWhitespace() {
+		while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+			pos++;
+		}
+	}
+
+	private IllegalArgumentException error() {
+		return new IllegalArgumentException("Unexpected input at " + pos + " in " + text);
+	}
+}
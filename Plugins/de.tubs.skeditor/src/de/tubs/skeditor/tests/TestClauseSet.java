@@ -0,0 +1,47 @@
+package de.tubs.skeditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.tubs.skeditor.contracting.Clause;
+import de.tubs.skeditor.contracting.ClauseSet;
+
+/**
+ * Splitting of formulas into hash-consed clauses.
+ */
+public class TestClauseSet {
+
+	@Test
+	public void testStructuralEquality() {
+		Clause first = ClauseSet.of("x > 0").iterator().next();
+		Clause second = ClauseSet.of("((x>0))").iterator().next();
+		assertSame(first, second);
+		assertEquals(ClauseSet.of("a & b"), ClauseSet.of("b&a"));
+	}
+
+	@Test
+	public void testDeduplication() {
+		ClauseSet set = ClauseSet.of("x > 0 & (y < 1 & x > 0) & true");
+		assertEquals(2, set.size());
+		assertEquals("x > 0 & y < 1", set.toString());
+
+		ClauseSet union = ClauseSet.union(Arrays.asList(set, ClauseSet.of("y<1 & z = 2"), ClauseSet.of("x>0")));
+		assertEquals("x > 0 & y < 1 & z = 2", union.toString());
+		assertEquals("true", ClauseSet.of("true").toString());
+		assertTrue(ClauseSet.of("").isEmpty());
+	}
+
+	@Test
+	public void testRendering() {
+		// disjunctions bind weaker than the conjunction they are part of
+		ClauseSet set = ClauseSet.union(Arrays.asList(ClauseSet.of("a | b"), ClauseSet.of("c")));
+		assertEquals("(a | b) & c", set.toString());
+		assertEquals("a | b", ClauseSet.of("(a | b)").toString());
+		assertEquals(1, ClauseSet.of("(a & b) | c").size());
+	}
+}
@@ -0,0 +1,73 @@
+package de.tubs.skeditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.tubs.skeditor.keymaera.Expression;
+
+/**
+ * Test class to ensure that expressions are simplified into their canonical
+ * form.
+ */
+public class TestExpressionSimplifier {
+
+	@Test
+	public void testConstantFolding() {
+		assertSimplified("5", "2+3");
+		assertSimplified("0.75", "0.5+0.25");
+		assertSimplified("0.5*x", "2*x/4");
+	}
+
+	@Test
+	public void testIdentities() {
+		assertSimplified("y", "0*x+1*y");
+		assertSimplified("a", "-(-a)");
+		assertSimplified("x", "(2*x)/2");
+	}
+
+	@Test
+	public void testLikeTerms() {
+		assertSimplified("2*x", "x+x");
+		assertSimplified("0", "a*b-b*a");
+		assertSimplified("x", "x*(y+1)-x*y");
+		assertSimplified("a*a-b*b", "(a+b)*(a-b)");
+	}
+
+	@Test
+	public void testExpansion() {
+		assertSimplified("x*x-1", "(x+1)*(x-1)");
+		assertSimplified("(a+b)*(c+d)", "(a+b)*(c+d)");
+		assertSimplified("(a+b)*(c+d)+2", "(b+a)*(d+c)+1+1");
+		assertSimplified("2*(a+b)", "2*(a+b)");
+		assertSimplified("2*b", "2*(a+b)-2*a");
+	}
+
+	@Test
+	public void testProducts() {
+		// like terms do not depend on the grouping of the product
+		assertSimplified("0", "(a+b)*(c+d)*x - x*(a+b)*(c+d)");
+		assertSimplified("(a+b)*(c+d)*(e+f)", "(a+b)*(c+d)*(e+f)");
+		assertSimplified("(a+b)*(a+b)*(a+b)", "(a+b)*((a+b)*(a+b))");
+		String bicycle = "-beta*(Caf+Car)/(M*v) + psi2*(M*v*v - (Car*Lr-Caf*Lf))/(M*v*v) - d*Caf/(M*v)";
+		assertTrue(new Expression(bicycle).simplify().toString().length() <= bicycle.replace(" ", "").length());
+	}
+
+	@Test
+	public void testCanonicalOrder() {
+		assertSimplified("2*x*y", "y*x*2");
+		assertEquals(new Expression("b*a+c").simplify(), new Expression("c+a*b").simplify());
+	}
+
+	@Test
+	public void testFixpoint() {
+		Expression simplified = new Expression("x*(y+1)-x*y+1/3").simplify();
+		assertSame(simplified, simplified.simplify());
+	}
+
+	private static void assertSimplified(String expected, String expression) {
+		assertEquals(expected, new Expression(expression).simplify().toString());
+	}
+}
@@ -0,0 +1,89 @@
+package de.tubs.skeditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import de.tubs.skeditor.contracting.grammar.FormulaCache;
+import de.tubs.skeditor.contracting.grammar.FormulaParser;
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+import de.tubs.skeditor.contracting.grammar.folParser;
+
+/**
+ * Regression test of the fol grammar against a corpus of requirement terms.
+ */
+public class TestFolGrammar {
+
+	private static final String CORPUS_FILE = "resources/fol_regression_corpus.txt";
+
+	@Test
+	public void testCorpus() throws IOException, URISyntaxException {
+		List<String> lines = Files.readAllLines(findCorpus(), StandardCharsets.UTF_8);
+		int terms = 0;
+		for (String line : lines) {
+			if (line.startsWith("#") || line.isEmpty()) {
+				continue;
+			}
+			String[] columns = line.split("\t", -1);
+			String term = columns[0];
+			FormulaCache cache = new FormulaCache(1);
+			assertEquals(term, columns[1], String.join(",", new TreeSet<String>(cache.get(term).getVariables())));
+			assertEquals(term, columns[2].equals("ok"), GrammarUtil.tryToParse(term).isEmpty());
+			terms++;
+		}
+		assertTrue(terms > 0);
+	}
+
+	@Test
+	public void testPrecedence() {
+		assertEquals("(a|(b&c))", shape("a | b & c"));
+		assertEquals("(((a&b)|c)=>d)", shape("a & b | c => d"));
+		assertEquals("((a=>b)<>(((e^2)*f)+g))", shape("a => b <> e ^ 2 * f + g"));
+		assertEquals("(((x+(2*y))<h)&!c)", shape("x + 2*y < h & !c"));
+		// tuples are accepted wherever a term is expected
+		assertTrue(GrammarUtil.tryToParse("(x, y) == (a, b) & c.f(z) > 0").isEmpty());
+		assertFalse(GrammarUtil.tryToParse("a & | b").isEmpty());
+	}
+
+	/**
+	 * @return the expression tree of the formula with every binary operator
+	 *         and its operands in parentheses
+	 */
+	private static String shape(String formula) {
+		return shape(FormulaParser.get().parseCondition(formula, null).formula().expression());
+	}
+
+	private static String shape(folParser.ExpressionContext expression) {
+		if (expression.notterm() != null) {
+			return expression.notterm().getText();
+		}
+		return "(" + shape(expression.expression(0)) + expression.getChild(1).getText() + shape(expression.expression(1))
+				+ ")";
+	}
+
+	/**
+	 * @return the corpus in the working directory or in a parent of the class
+	 *         folder, so the test runs from the plug-in and from the
+	 *         repository
+	 */
+	private static Path findCorpus() throws URISyntaxException {
+		Path corpus = Paths.get(CORPUS_FILE);
+		Path directory = Paths.get(TestFolGrammar.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		while (!Files.exists(corpus) && directory != null) {
+			corpus = directory.resolve(CORPUS_FILE);
+			directory = directory.getParent();
+		}
+		return corpus;
+	}
+}
@@ -0,0 +1,55 @@
+package de.tubs.skeditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import de.tubs.skeditor.keymaera.Expression;
+import de.tubs.skeditor.keymaera.MatrixEquationParser;
+import de.tubs.skeditor.keymaera.ParsingException;
+
+/**
+ * Test class to ensure that state space equations are parsed properly.
+ */
+public class TestMatrixEquationParser {
+
+	@Test
+	public void testStateSpaceModel() throws ParsingException {
+		Map<String, Expression> equations = MatrixEquationParser
+				.parse("[x1',x2'] = [[0,1],[-a,-c]]*[x1,x2] + [[0],[b]]*[u] - [0,g]");
+		assertEquals("{x1'=x2, x2'=-a*x1+b*u-c*x2-g}", equations.toString());
+	}
+
+	@Test
+	public void testScalarFactors() throws ParsingException {
+		assertEquals("{x'=2*a*k*x}", MatrixEquationParser.parse("[x'] = 2*[[a]]*[x]*k").toString());
+		assertEquals("{x'=0.5*x+y, y'=1.5*x+2*y}",
+				MatrixEquationParser.parse("[x',y'] = [[1,2],[3,4]]*[x,y]/2").toString());
+	}
+
+	@Test
+	public void testUnaryMinus() throws ParsingException {
+		assertEquals("{x'=x, y'=-y}", MatrixEquationParser.parse("[x',y'] = -(-[x,-y])").toString());
+	}
+
+	@Test
+	public void testErrorPositions() {
+		assertError("[x',y'] = [[1,2],[3]]*[x,y]", 17);
+		assertError("[x'] = [x] + 1", 11);
+		assertError("[x',y'] = [x]", 10);
+		assertError("[x'] = [x] +", 12);
+		assertError("[x'] [x]", 5);
+	}
+
+	private static void assertError(String equation, int position) {
+		try {
+			MatrixEquationParser.parse(equation);
+			fail("Parsed invalid equation " + equation);
+		} catch (ParsingException e) {
+			assertEquals(position, e.getPosition());
+		}
+	}
+}
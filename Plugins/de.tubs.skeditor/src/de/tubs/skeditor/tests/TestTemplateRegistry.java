@@ -0,0 +1,60 @@
+package de.tubs.skeditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.tubs.skeditor.keymaera.DynamicModel;
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+
+/**
+ * Test class to ensure that the user templates of a project replace the
+ * built-in template of the generated programs.
+ */
+public class TestTemplateRegistry {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUserTemplate() throws IOException {
+		File directory = folder.newFolder("templates");
+		write(new File(directory, "Motion" + TemplateRegistry.FILE_EXTENSION),
+				"ProgramVariables\n  %%variables%%\nEnd.\nProblem\n  %%assume%% -> [{%%dynamic%%}]%%safe%%\nEnd.\n");
+		TemplateRegistry registry = TemplateRegistry.forDirectory(directory);
+
+		String builtIn = createProgram(new DynamicModel(""));
+		String user = createProgram(new DynamicModel(registry.findUserTemplate("Motion")));
+		assertNotEquals(builtIn, user);
+		assertEquals("ProgramVariables\n  R v.\n  \nEnd.\nProblem\n  v>=0 -> [{x' = v}]x>=0\nEnd.\n", user);
+		assertNull(registry.findUserTemplate("Other"));
+	}
+
+	@Test
+	public void testDefaultTemplate() throws IOException {
+		File directory = folder.newFolder("templates");
+		write(new File(directory, TemplateRegistry.DEFAULT_NAME + TemplateRegistry.FILE_EXTENSION), "%%safe%%\r\n");
+		TemplateRegistry registry = TemplateRegistry.forDirectory(directory);
+
+		assertEquals("x>=0\n", createProgram(new DynamicModel(registry.findUserTemplate("Motion"))));
+		assertEquals("x>=0\n", createProgram(new DynamicModel(registry.findUserTemplate(null))));
+	}
+
+	private static String createProgram(DynamicModel model) throws IOException {
+		model.addEquation("x'=v");
+		return model.createKeYmaeraProgram("v>=0", "x>=0");
+	}
+
+	private static void write(File file, String text) throws IOException {
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,420 @@
+package de.tubs.skeditor.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+import SkillGraph.Edge;
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.SkillGraphPackage;
+
+/**
+ * Index of the structure of a skill graph: parent and child adjacency, a
+ * topological order, the transitive closure as bit sets and the depth of every
+ * skill below the root. The index is attached to the graph as a content
+ * adapter, every change of the nodes, edges or the root marks it as outdated
+ * and it is rebuilt on the next query, so all features share one consistent
+ * view of the graph.
+ * <p>
+ * Queries for skills that are not part of the graph return empty results.
+ */
+public class GraphIndex extends EContentAdapter {
+
+	private static final Edge[] NO_EDGES = new Edge[0];
+
+	private final Graph graph;
+	private long revision;
+	private boolean outdated = true;
+
+	private Node[] nodes;
+	private final Map<Node, Integer> ids = new IdentityHashMap<Node, Integer>();
+	private int[][] children;
+	private int[][] parents;
+	private Edge[][] childEdges;
+	private Edge[][] parentEdges;
+	// null if the graph contains a cycle
+	private int[] topologicalOrder;
+	private BitSet[] descendants;
+	private BitSet[] ancestors;
+	private int[] depths;
+
+	private GraphIndex(Graph graph) {
+		this.graph = graph;
+	}
+
+	/**
+	 * @return the index of the graph, it is created and attached on first use
+	 */
+	public static synchronized GraphIndex forGraph(Graph graph) {
+		for (Adapter adapter : graph.eAdapters()) {
+			if (adapter instanceof GraphIndex) {
+				return (GraphIndex) adapter;
+			}
+		}
+		GraphIndex index = new GraphIndex(graph);
+		graph.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * @return the index of the graph containing the node, or null if the node
+	 *         is not contained in a graph
+	 */
+	public static GraphIndex forNode(Node node) {
+		return node.eContainer() instanceof Graph ? forGraph((Graph) node.eContainer()) : null;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == GraphIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || !isStructural(notification.getFeature())) {
+			return;
+		}
+		synchronized (this) {
+			revision++;
+			outdated = true;
+		}
+	}
+
+	/**
+	 * @return whether the feature belongs to the structure of the graph,
+	 *         requirements, equations, controllers and names do not
+	 */
+	private static boolean isStructural(Object feature) {
+		return feature == SkillGraphPackage.Literals.NODE__CHILD_EDGES
+				|| feature == SkillGraphPackage.Literals.NODE__PARENT_NODES
+				|| feature == SkillGraphPackage.Literals.EDGE__CHILD_NODE
+				|| feature == SkillGraphPackage.Literals.EDGE__PARENT_NODE
+				|| feature == SkillGraphPackage.Literals.GRAPH__NODES
+				|| feature == SkillGraphPackage.Literals.GRAPH__ROOT_NODE;
+	}
+
+	/**
+	 * @return the number of structural changes of the graph since the index
+	 *         was attached
+	 */
+	public synchronized long getRevision() {
+		return revision;
+	}
+
+	public synchronized boolean contains(Node node) {
+		update();
+		return ids.containsKey(node);
+	}
+
+	/**
+	 * @return the root and all skills of the graph
+	 */
+	public synchronized List<Node> getNodes() {
+		update();
+		return Collections.unmodifiableList(Arrays.asList(nodes));
+	}
+
+	public synchronized List<Node> getChildren(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return id == null ? Collections.<Node>emptyList() : toNodes(children[id]);
+	}
+
+	public synchronized List<Node> getParents(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return id == null ? Collections.<Node>emptyList() : toNodes(parents[id]);
+	}
+
+	public synchronized List<Edge> getChildEdges(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return Collections.unmodifiableList(Arrays.asList(id == null ? NO_EDGES : childEdges[id]));
+	}
+
+	/**
+	 * @return the edges from the parents to the node
+	 */
+	public synchronized List<Edge> getParentEdges(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return Collections.unmodifiableList(Arrays.asList(id == null ? NO_EDGES : parentEdges[id]));
+	}
+
+	/**
+	 * @return the child edges followed by the parent edges of the node
+	 */
+	public synchronized List<Edge> getEdges(Node node) {
+		update();
+		Integer id = ids.get(node);
+		if (id == null) {
+			return Collections.emptyList();
+		}
+		List<Edge> edges = new ArrayList<Edge>(childEdges[id].length + parentEdges[id].length);
+		edges.addAll(Arrays.asList(childEdges[id]));
+		edges.addAll(Arrays.asList(parentEdges[id]));
+		return edges;
+	}
+
+	public synchronized boolean isDescendant(Node node, Node descendant) {
+		update();
+		Integer id = ids.get(node);
+		Integer other = ids.get(descendant);
+		return id != null && other != null && descendants[id].get(other);
+	}
+
+	public synchronized boolean isAncestor(Node node, Node ancestor) {
+		return isDescendant(ancestor, node);
+	}
+
+	/**
+	 * @return all skills below the node, in the order of the index
+	 */
+	public synchronized List<Node> getDescendants(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return id == null ? Collections.<Node>emptyList() : toNodes(descendants[id]);
+	}
+
+	/**
+	 * @return all skills above the node, in the order of the index
+	 */
+	public synchronized List<Node> getAncestors(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return id == null ? Collections.<Node>emptyList() : toNodes(ancestors[id]);
+	}
+
+	/**
+	 * @return the length of the shortest path from the root to the node, or
+	 *         -1 if the node cannot be reached from the root
+	 */
+	public synchronized int getDepth(Node node) {
+		update();
+		Integer id = ids.get(node);
+		return id == null ? -1 : depths[id];
+	}
+
+	public synchronized boolean isReachableFromRoot(Node node) {
+		return getDepth(node) >= 0;
+	}
+
+	public synchronized boolean hasCycle() {
+		update();
+		return topologicalOrder == null;
+	}
+
+	/**
+	 * @return the skills with every parent before its children
+	 * @throws GraphTraversal.CycleException
+	 *             if the graph contains a cycle
+	 */
+	public synchronized List<Node> getTopologicalOrder() {
+		update();
+		if (topologicalOrder == null) {
+			// reports the nodes of the cycle
+			GraphTraversal.postOrder(Arrays.asList(nodes), node -> false);
+		}
+		return toNodes(topologicalOrder);
+	}
+
+	private List<Node> toNodes(int[] indices) {
+		List<Node> result = new ArrayList<Node>(indices.length);
+		for (int i : indices) {
+			result.add(nodes[i]);
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	private List<Node> toNodes(BitSet set) {
+		List<Node> result = new ArrayList<Node>(set.cardinality());
+		for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+			result.add(nodes[i]);
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	private void update() {
+		if (!outdated) {
+			return;
+		}
+		ids.clear();
+		List<Node> nodeList = new ArrayList<Node>();
+		if (graph.getRootNode() != null) {
+			addNode(graph.getRootNode(), nodeList);
+		}
+		for (Node node : graph.getNodes()) {
+			addNode(node, nodeList);
+		}
+		// children that are not contained in the graph (yet)
+		for (int i = 0; i < nodeList.size(); i++) {
+			for (Edge edge : nodeList.get(i).getChildEdges()) {
+				if (edge.getChildNode() != null) {
+					addNode(edge.getChildNode(), nodeList);
+				}
+			}
+		}
+		nodes = nodeList.toArray(new Node[nodeList.size()]);
+		buildAdjacency();
+		buildTopologicalOrder();
+		buildClosure();
+		buildDepths();
+		outdated = false;
+	}
+
+	private void addNode(Node node, List<Node> nodeList) {
+		if (!ids.containsKey(node)) {
+			ids.put(node, nodeList.size());
+			nodeList.add(node);
+		}
+	}
+
+	private void buildAdjacency() {
+		int n = nodes.length;
+		List<List<Edge>> incoming = new ArrayList<List<Edge>>(n);
+		List<List<Integer>> incomingFrom = new ArrayList<List<Integer>>(n);
+		for (int i = 0; i < n; i++) {
+			incoming.add(new ArrayList<Edge>());
+			incomingFrom.add(new ArrayList<Integer>());
+		}
+		children = new int[n][];
+		childEdges = new Edge[n][];
+		for (int i = 0; i < n; i++) {
+			List<Edge> edges = new ArrayList<Edge>();
+			for (Edge edge : nodes[i].getChildEdges()) {
+				if (edge.getChildNode() != null) {
+					int child = ids.get(edge.getChildNode());
+					edges.add(edge);
+					incoming.get(child).add(edge);
+					incomingFrom.get(child).add(i);
+				}
+			}
+			childEdges[i] = edges.toArray(new Edge[edges.size()]);
+			children[i] = new int[edges.size()];
+			for (int j = 0; j < edges.size(); j++) {
+				children[i][j] = ids.get(edges.get(j).getChildNode());
+			}
+		}
+		parents = new int[n][];
+		parentEdges = new Edge[n][];
+		for (int i = 0; i < n; i++) {
+			List<Edge> edges = incoming.get(i);
+			parentEdges[i] = edges.toArray(new Edge[edges.size()]);
+			parents[i] = new int[edges.size()];
+			for (int j = 0; j < edges.size(); j++) {
+				parents[i][j] = incomingFrom.get(i).get(j);
+			}
+		}
+	}
+
+	/**
+	 * Kahn's algorithm, the order is null if not all nodes can be ordered
+	 */
+	private void buildTopologicalOrder() {
+		int n = nodes.length;
+		int[] inDegree = new int[n];
+		for (int i = 0; i < n; i++) {
+			for (int child : children[i]) {
+				inDegree[child]++;
+			}
+		}
+		int[] order = new int[n];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if (inDegree[i] == 0) {
+				order[count++] = i;
+			}
+		}
+		for (int next = 0; next < count; next++) {
+			for (int child : children[order[next]]) {
+				if (--inDegree[child] == 0) {
+					order[count++] = child;
+				}
+			}
+		}
+		topologicalOrder = count == n ? order : null;
+	}
+
+	private void buildClosure() {
+		int n = nodes.length;
+		descendants = new BitSet[n];
+		if (topologicalOrder != null) {
+			// children first, so their closure is known
+			for (int k = n - 1; k >= 0; k--) {
+				int i = topologicalOrder[k];
+				BitSet set = new BitSet(n);
+				for (int child : children[i]) {
+					set.set(child);
+					set.or(descendants[child]);
+				}
+				descendants[i] = set;
+			}
+		} else {
+			for (int i = 0; i < n; i++) {
+				descendants[i] = reachable(i);
+			}
+		}
+		ancestors = new BitSet[n];
+		for (int i = 0; i < n; i++) {
+			ancestors[i] = new BitSet(n);
+		}
+		for (int i = 0; i < n; i++) {
+			BitSet set = descendants[i];
+			for (int d = set.nextSetBit(0); d >= 0; d = set.nextSetBit(d + 1)) {
+				ancestors[d].set(i);
+			}
+		}
+	}
+
+	private BitSet reachable(int start) {
+		BitSet set = new BitSet(nodes.length);
+		Deque<Integer> worklist = new ArrayDeque<Integer>();
+		worklist.push(start);
+		while (!worklist.isEmpty()) {
+			for (int child : children[worklist.pop()]) {
+				if (!set.get(child)) {
+					set.set(child);
+					worklist.push(child);
+				}
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * Breadth-first search from the root
+	 */
+	private void buildDepths() {
+		depths = new int[nodes.length];
+		Arrays.fill(depths, -1);
+		Integer root = graph.getRootNode() == null ? null : ids.get(graph.getRootNode());
+		if (root == null) {
+			return;
+		}
+		int[] queue = new int[nodes.length];
+		int size = 0;
+		queue[size++] = root;
+		depths[root] = 0;
+		for (int next = 0; next < size; next++) {
+			int i = queue[next];
+			for (int child : children[i]) {
+				if (depths[child] < 0) {
+					depths[child] = depths[i] + 1;
+					queue[size++] = child;
+				}
+			}
+		}
+	}
+}
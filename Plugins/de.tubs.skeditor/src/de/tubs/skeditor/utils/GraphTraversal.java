@@ -0,0 +1,194 @@
+package de.tubs.skeditor.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import SkillGraph.Edge;
+import SkillGraph.Node;
+
+/**
+ * Iterative traversals of the skill graph. Every node is visited once, even if
+ * it is shared by several parents, and a cycle never leads to an endless
+ * recursion: the reachability queries just stop at visited nodes, the
+ * post-order reports the cycle with a {@link CycleException}.
+ */
+public class GraphTraversal {
+
+	/**
+	 * Thrown if the skills that have to be ordered contain a cycle
+	 */
+	public static class CycleException extends IllegalStateException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<Node> cycle;
+
+		public CycleException(List<Node> cycle) {
+			super("The skill graph contains a cycle at " + cycle.get(0).getName());
+			this.cycle = Collections.unmodifiableList(cycle);
+		}
+
+		/**
+		 * @return the nodes of the cycle, each one is a parent of the next and
+		 *         the last one is a parent of the first
+		 */
+		public List<Node> getCycle() {
+			return cycle;
+		}
+	}
+
+	private GraphTraversal() {
+	}
+
+	/**
+	 * @return all nodes below the node in depth-first pre-order, children in
+	 *         the order of their edges, without the node itself unless it is
+	 *         part of a cycle
+	 */
+	public static List<Node> getDescendants(Node node) {
+		List<Node> result = new ArrayList<Node>();
+		Set<Node> visited = newIdentitySet();
+		Deque<Iterator<Edge>> worklist = new ArrayDeque<Iterator<Edge>>();
+		worklist.push(node.getChildEdges().iterator());
+		while (!worklist.isEmpty()) {
+			Iterator<Edge> edges = worklist.peek();
+			if (!edges.hasNext()) {
+				worklist.pop();
+				continue;
+			}
+			Node child = edges.next().getChildNode();
+			if (child != null && visited.add(child)) {
+				result.add(child);
+				worklist.push(child.getChildEdges().iterator());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return all nodes above the node in breadth-first order, without the
+	 *         node itself unless it is part of a cycle. The parents are taken
+	 *         from the child edges by the {@link GraphIndex} of the graph, the
+	 *         parent nodes of the model only for nodes outside of a graph.
+	 */
+	public static List<Node> getAncestors(Node node) {
+		GraphIndex index = GraphIndex.forNode(node);
+		List<Node> result = new ArrayList<Node>();
+		Set<Node> visited = newIdentitySet();
+		Deque<Node> worklist = new ArrayDeque<Node>();
+		worklist.add(node);
+		while (!worklist.isEmpty()) {
+			Node current = worklist.poll();
+			for (Node parent : index != null ? index.getParents(current) : current.getParentNodes()) {
+				if (visited.add(parent)) {
+					result.add(parent);
+					worklist.add(parent);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return whether the descendant can be reached from the node by
+	 *         following child edges
+	 */
+	public static boolean isDescendant(Node node, Node descendant) {
+		Set<Node> visited = newIdentitySet();
+		Deque<Node> worklist = new ArrayDeque<Node>();
+		worklist.push(node);
+		while (!worklist.isEmpty()) {
+			for (Edge edge : worklist.pop().getChildEdges()) {
+				Node child = edge.getChildNode();
+				if (child == descendant) {
+					return true;
+				}
+				if (child != null && visited.add(child)) {
+					worklist.push(child);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Orders the nodes and their descendants so that every node comes after
+	 * all of its children.
+	 *
+	 * @param nodes
+	 *            the nodes to start from
+	 * @param skip
+	 *            nodes for which the predicate holds are left out together
+	 *            with the descendants that are only reachable through them
+	 * @return the nodes in post-order
+	 * @throws CycleException
+	 *             if a cycle is reachable from the nodes
+	 */
+	public static List<Node> postOrder(Collection<Node> nodes, Predicate<Node> skip) {
+		List<Node> result = new ArrayList<Node>();
+		Set<Node> done = newIdentitySet();
+		Set<Node> onPath = newIdentitySet();
+		Deque<Node> path = new ArrayDeque<Node>();
+		Deque<Iterator<Edge>> pending = new ArrayDeque<Iterator<Edge>>();
+
+		for (Node start : nodes) {
+			if (done.contains(start) || skip.test(start)) {
+				continue;
+			}
+			path.push(start);
+			pending.push(start.getChildEdges().iterator());
+			onPath.add(start);
+			while (!path.isEmpty()) {
+				Iterator<Edge> edges = pending.peek();
+				if (edges.hasNext()) {
+					Node child = edges.next().getChildNode();
+					if (child == null || done.contains(child) || skip.test(child)) {
+						continue;
+					}
+					if (onPath.contains(child)) {
+						throw new CycleException(cycle(path, child));
+					}
+					path.push(child);
+					pending.push(child.getChildEdges().iterator());
+					onPath.add(child);
+				} else {
+					Node node = path.pop();
+					pending.pop();
+					onPath.remove(node);
+					done.add(node);
+					result.add(node);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the part of the path from the node down to the top of the path
+	 */
+	private static List<Node> cycle(Deque<Node> path, Node node) {
+		List<Node> cycle = new ArrayList<Node>();
+		Iterator<Node> iterator = path.descendingIterator();
+		boolean found = false;
+		while (iterator.hasNext()) {
+			Node current = iterator.next();
+			found |= current == node;
+			if (found) {
+				cycle.add(current);
+			}
+		}
+		return cycle;
+	}
+
+	public static <T> Set<T> newIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+	}
+}
@@ -2,6 +2,7 @@ package de.tubs.skeditor.utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
@@ -13,6 +14,10 @@ import SkillGraph.Requirement;
 
 public class GraphUtil {
 	public static ArrayList<Node> getChildNodes(Node node) {
+		GraphIndex index = GraphIndex.forNode(node);
+		if (index != null) {
+			return new ArrayList<Node>(index.getChildren(node));
+		}
 		ArrayList<Node> nodes = new ArrayList<Node>();
 		for (Edge edge : node.getChildEdges()) {
 			nodes.add(edge.getChildNode());
@@ -21,8 +26,11 @@ public class GraphUtil {
 	}
 
 	public static ArrayList<Node> getParentNodes(Node node) {
-		ArrayList<Node> nodes = new ArrayList<>(Arrays.asList((Node[]) node.getParentNodes().toArray()));
-		return nodes;
+		GraphIndex index = GraphIndex.forNode(node);
+		if (index != null) {
+			return new ArrayList<Node>(index.getParents(node));
+		}
+		return new ArrayList<Node>(node.getParentNodes());
 	}
 
 	public static ArrayList<Edge> getChildEdges(Node node) {
@@ -31,6 +39,10 @@ public class GraphUtil {
 	}
 
 	public static ArrayList<Edge> getParentEdges(Node node) {
+		GraphIndex index = GraphIndex.forNode(node);
+		if (index != null) {
+			return new ArrayList<Edge>(index.getParentEdges(node));
+		}
 		ArrayList<Edge> edges = new ArrayList<Edge>();
 		for (Node parentNode : node.getParentNodes()) {
 			for (Edge edge : parentNode.getChildEdges()) {
@@ -43,6 +55,10 @@ public class GraphUtil {
 	}
 
 	public static ArrayList<Edge> getAllEdges(Node node) {
+		GraphIndex index = GraphIndex.forNode(node);
+		if (index != null) {
+			return new ArrayList<Edge>(index.getEdges(node));
+		}
 		ArrayList<Edge> edges = new ArrayList<Edge>();
 		edges.addAll(getChildEdges(node));
 		edges.addAll(getParentEdges(node));
@@ -57,20 +73,28 @@ public class GraphUtil {
 		return !node.getParentNodes().isEmpty();
 	}
 
+	/**
+	 * @return the equations of all descendants, each one once, in depth-first
+	 *         order
+	 */
 	public static EList<Equation> getPropagatedEquations(Node node) {
 		EList<Equation> equationList = new BasicEList<Equation>();
-		for (Node childNode : getChildNodes(node)) {
-			insertInto(equationList, childNode.getEquations());
-			insertInto(equationList, getPropagatedEquations(childNode));
+		Set<Equation> contained = GraphTraversal.newIdentitySet();
+		for (Node descendant : GraphTraversal.getDescendants(node)) {
+			insertInto(equationList, contained, descendant.getEquations());
 		}
 		return equationList;
 	}
 
+	/**
+	 * @return the requirements of all descendants, each one once, in
+	 *         depth-first order
+	 */
 	public static EList<Requirement> getPreConditionRequirements(Node node) {
 		EList<Requirement> requirementList = new BasicEList<Requirement>();
-		for (Node childNode : getChildNodes(node)) {
-			insertInto(requirementList, childNode.getRequirements());
-			insertInto(requirementList, getPreConditionRequirements(childNode));
+		Set<Requirement> contained = GraphTraversal.newIdentitySet();
+		for (Node descendant : GraphTraversal.getDescendants(node)) {
+			insertInto(requirementList, contained, descendant.getRequirements());
 		}
 		return requirementList;
 	}
@@ -83,13 +107,15 @@ public class GraphUtil {
 	 * 
 	 * @param container
 	 *            The main list to insert into
+	 * @param contained
+	 *            The elements of the container
 	 * @param insertable
 	 *            The list to insert
 	 * @return The container with new elements
 	 */
-	private static <T> EList<T> insertInto(EList<T> container, EList<T> insertable) {
+	private static <T> EList<T> insertInto(EList<T> container, Set<T> contained, EList<T> insertable) {
 		for (T t : insertable) {
-			if (!container.contains(t)) {
+			if (contained.add(t)) {
 				container.add(t);
 			}
 		}
@@ -0,0 +1,76 @@
+package de.tubs.skeditor.utils;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+
+public class ResourceUtil {
+
+	/**
+	 * Folder of a project with the user templates for the KeYmaera X programs
+	 */
+	public static final String TEMPLATE_FOLDER = "templates";
+
+	/**
+	 * Returns the workspace file a model element is stored in. Diagrams are
+	 * created with file URIs of the workspace path (see CreateFileOperation),
+	 * older ones may use platform resource URIs, so both are accepted.
+	 *
+	 * @param object
+	 *            any element of a skill graph or diagram
+	 * @return the file or null if the element is not stored in the workspace
+	 */
+	public static IFile getFile(EObject object) {
+		Resource resource = object == null ? null : object.eResource();
+		if (resource == null || resource.getURI() == null) {
+			return null;
+		}
+		URI uri = resource.getURI();
+		String path;
+		if (uri.isPlatformResource()) {
+			path = uri.toPlatformString(true);
+		} else if (uri.isFile() || uri.isRelative()) {
+			path = uri.path();
+		} else {
+			return null;
+		}
+		if (path == null || new Path(path).segmentCount() < 2) {
+			return null;
+		}
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(path));
+	}
+
+	/**
+	 * @param object
+	 *            any element of a skill graph or diagram
+	 * @return the open project the element is stored in, or null
+	 */
+	public static IProject getProject(EObject object) {
+		IFile file = getFile(object);
+		if (file == null || !file.getProject().isAccessible()) {
+			return null;
+		}
+		return file.getProject();
+	}
+
+	/**
+	 * @param project
+	 *            the project, may be null
+	 * @return the registry of the templates in the {@link #TEMPLATE_FOLDER} of
+	 *         the project, or the registry of the built-in templates
+	 */
+	public static TemplateRegistry getTemplateRegistry(IProject project) {
+		IPath location = project == null ? null : project.getFolder(TEMPLATE_FOLDER).getLocation();
+		if (location == null) {
+			return TemplateRegistry.getDefault();
+		}
+		return TemplateRegistry.forDirectory(location.toFile());
+	}
+}
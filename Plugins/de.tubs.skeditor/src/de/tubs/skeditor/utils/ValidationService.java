@@ -0,0 +1,171 @@
+package de.tubs.skeditor.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.Requirement;
+import de.tubs.skeditor.contracting.grammar.GrammarUtil;
+import de.tubs.skeditor.contracting.grammar.SyntaxError;
+
+/**
+ * Syntax validation of the requirements of a skill graph. The syntax errors
+ * are cached per term by {@link GrammarUtil#getSyntaxErrors(String)}, so a term
+ * is only parsed again when its text changes. The service is attached to the
+ * graph as a content adapter and publishes the errors as problem markers of
+ * the diagram file after every change of the model.
+ */
+public class ValidationService extends EContentAdapter {
+
+	/**
+	 * Marker type of the syntax errors, a subtype of {@link IMarker#PROBLEM}
+	 */
+	public static final String MARKER_TYPE = "de.tubs.skeditor.syntaxProblem";
+
+	// collects a burst of changes into one update of the markers
+	private static final long DELAY = 300;
+
+	private final Graph graph;
+	private final Job job;
+
+	private ValidationService(Graph graph) {
+		this.graph = graph;
+		this.job = new Job("Validating requirements") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					updateMarkers(monitor);
+				} catch (CoreException e) {
+					return e.getStatus();
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * @return the service of the graph, it is created, attached and scheduled
+	 *         on first use
+	 */
+	public static synchronized ValidationService forGraph(Graph graph) {
+		for (Adapter adapter : graph.eAdapters()) {
+			if (adapter instanceof ValidationService) {
+				return (ValidationService) adapter;
+			}
+		}
+		ValidationService service = new ValidationService(graph);
+		graph.eAdapters().add(service);
+		service.job.schedule();
+		return service;
+	}
+
+	/**
+	 * @return the cached syntax errors of the term of the requirement
+	 */
+	public static List<SyntaxError> getSyntaxErrors(Requirement requirement) {
+		Node node = requirement.getNode();
+		if (node != null && node.eContainer() instanceof Graph) {
+			// keeps the markers of the graph up to date
+			forGraph((Graph) node.eContainer());
+		}
+		return GrammarUtil.getSyntaxErrors(requirement.getTerm());
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ValidationService.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		job.schedule(DELAY);
+	}
+
+	/**
+	 * Replaces the markers of the diagram file by the syntax errors of the
+	 * current requirements.
+	 */
+	private void updateMarkers(IProgressMonitor monitor) throws CoreException {
+		IFile file = ResourceUtil.getFile(graph);
+		if (file == null || !file.exists()) {
+			return;
+		}
+		List<Problem> problems = new ArrayList<Problem>();
+		Runnable read = () -> {
+			List<Node> nodes = new ArrayList<Node>();
+			if (graph.getRootNode() != null) {
+				nodes.add(graph.getRootNode());
+			}
+			for (Node node : graph.getNodes()) {
+				if (node != graph.getRootNode()) {
+					nodes.add(node);
+				}
+			}
+			for (Node node : nodes) {
+				for (int i = 0; i < node.getRequirements().size(); i++) {
+					Requirement requirement = node.getRequirements().get(i);
+					for (SyntaxError error : GrammarUtil.getSyntaxErrors(requirement.getTerm())) {
+						problems.add(new Problem(node.getName() + " RS" + (i + 1), error));
+					}
+				}
+			}
+		};
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(graph);
+		if (domain == null) {
+			read.run();
+		} else {
+			try {
+				domain.runExclusive(read);
+			} catch (InterruptedException e) {
+				job.schedule(DELAY);
+				return;
+			}
+		}
+
+		IWorkspaceRunnable update = m -> {
+			file.deleteMarkers(MARKER_TYPE, false, IResource.DEPTH_ZERO);
+			for (Problem problem : problems) {
+				IMarker marker = file.createMarker(MARKER_TYPE);
+				marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+				marker.setAttribute(IMarker.MESSAGE, "Syntax error in requirement " + problem.location + ": "
+						+ problem.error.getMessage());
+				marker.setAttribute(IMarker.LOCATION, problem.location + ", column "
+						+ (problem.error.getCharPositionInLine() + 1));
+			}
+		};
+		file.getWorkspace().run(update, file, IWorkspace.AVOID_UPDATE, monitor);
+	}
+
+	private static class Problem {
+		final String location;
+		final SyntaxError error;
+
+		Problem(String location, SyntaxError error) {
+			this.location = location;
+			this.error = error;
+		}
+	}
+}
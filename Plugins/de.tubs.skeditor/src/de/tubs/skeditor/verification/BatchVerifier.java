@@ -0,0 +1,305 @@
+package de.tubs.skeditor.verification;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import de.tubs.skeditor.verification.ProofResult.Status;
+
+/**
+ * Command line entry point that proves KeYmaera X archives without starting
+ * Eclipse, e.g. for nightly runs over Experiments/Programs:
+ *
+ * <pre>
+ * java -cp bin:libs/keymaerax.jar:libs/antlr-4.7.1-complete.jar de.tubs.skeditor.verification.BatchVerifier
+ *     --workers 4 --timeout 600 --format json --out results.json Experiments/Programs
+ * </pre>
+ *
+ * Directories are searched recursively for .kyx files. Every proof runs in a
+ * worker process of an {@link ExternalProver}, which is killed when its proof
+ * times out, so an abandoned proof never competes with the following files for
+ * CPU and Z3 and their wall times stay comparable. <code>--in-process</code>
+ * proves in this JVM instead, where a timed out search keeps running until it
+ * ends. The exit code is 0 if all files were proved, 1 if at least one was not
+ * and 2 on invalid arguments.
+ */
+public class BatchVerifier {
+
+	private static final long POLL_INTERVAL = 250;
+
+	private int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	// not ProofJob.DEFAULT_TIMEOUT, the Eclipse job classes are not on the class path
+	private long timeout = TimeUnit.MINUTES.toMillis(5);
+	private String format = "json";
+	private Path out;
+	private boolean external = true;
+	private String heap;
+	private final List<Path> files = new ArrayList<Path>();
+
+	public static void main(String[] args) {
+		BatchVerifier verifier = new BatchVerifier();
+		try {
+			verifier.parseArguments(args);
+		} catch (IllegalArgumentException | IOException e) {
+			System.err.println(e.getMessage());
+			printUsage();
+			System.exit(2);
+		}
+		try {
+			List<ProofResult> results = verifier.run();
+			verifier.write(results);
+			boolean allProved = results.stream().allMatch(ProofResult::isProved);
+			System.exit(allProved ? 0 : 1);
+		} catch (IOException e) {
+			e.printStackTrace();
+			System.exit(2);
+		}
+	}
+
+	private static void printUsage() {
+		System.err.println("Usage: BatchVerifier [--workers N] [--timeout SECONDS] [--format json|csv] [--out FILE]");
+		System.err.println("                     [--external [--heap SIZE] | --in-process] FILE_OR_DIRECTORY...");
+	}
+
+	void parseArguments(String[] args) throws IOException {
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--workers":
+				workers = Integer.parseInt(value(args, ++i));
+				if (workers < 1) {
+					throw new IllegalArgumentException("--workers must be at least 1");
+				}
+				break;
+			case "--timeout":
+				timeout = TimeUnit.SECONDS.toMillis(Long.parseLong(value(args, ++i)));
+				break;
+			case "--format":
+				format = value(args, ++i);
+				if (!format.equals("json") && !format.equals("csv")) {
+					throw new IllegalArgumentException("Unknown format " + format);
+				}
+				break;
+			case "--out":
+				out = Paths.get(value(args, ++i));
+				break;
+			case "--external":
+				external = true;
+				break;
+			case "--in-process":
+				external = false;
+				break;
+			case "--heap":
+				heap = value(args, ++i);
+				break;
+			default:
+				addFiles(Paths.get(args[i]));
+			}
+		}
+		if (files.isEmpty()) {
+			throw new IllegalArgumentException("No .kyx files given");
+		}
+	}
+
+	private static String value(String[] args, int index) {
+		if (index >= args.length) {
+			throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+		}
+		return args[index];
+	}
+
+	private void addFiles(Path path) throws IOException {
+		if (Files.isDirectory(path)) {
+			try (Stream<Path> stream = Files.walk(path)) {
+				files.addAll(stream.filter(p -> p.toString().endsWith(".kyx")).sorted().collect(Collectors.toList()));
+			}
+		} else if (Files.isRegularFile(path)) {
+			files.add(path);
+		} else {
+			throw new IllegalArgumentException(path + " does not exist");
+		}
+	}
+
+	/**
+	 * Proves all files with at most {@link #workers} proofs at the same time.
+	 *
+	 * @return one result per file, in the order of the files
+	 */
+	List<ProofResult> run() throws IOException {
+		Prover prover = external ? new ExternalProver(workers,
+				ExternalProver.createCommand(heap, System.getProperty("java.class.path")))
+				: new InProcessProver(new ProverSessionPool(workers, ProverSessionPool.DEFAULT_IDLE_TIMEOUT));
+		ExecutorService tasks = Executors.newFixedThreadPool(workers);
+		ExecutorService proofs = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "KeYmaera X batch prover");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<ProofResult>> futures = new ArrayList<Future<ProofResult>>();
+			for (Path file : files) {
+				futures.add(tasks.submit(() -> prove(prover, proofs, file)));
+			}
+			List<ProofResult> results = new ArrayList<ProofResult>();
+			for (int i = 0; i < futures.size(); i++) {
+				ProofResult result;
+				try {
+					result = futures.get(i).get();
+				} catch (InterruptedException | ExecutionException e) {
+					result = new ProofResult(files.get(i).toString(), Status.ERROR, e.toString(), 0);
+				}
+				results.add(result);
+				System.err.println("[" + (i + 1) + "/" + files.size() + "] " + result.getName() + ": "
+						+ result.getStatus() + " (" + result.getWallTime() + " ms)");
+			}
+			return results;
+		} finally {
+			tasks.shutdownNow();
+			proofs.shutdownNow();
+			prover.close();
+		}
+	}
+
+	/**
+	 * Proves one file. The timeout starts when the prover starts the search,
+	 * waiting for a free session or worker does not count. A timed out
+	 * external proof kills its worker, a timed out in-process search keeps
+	 * its session until it ends.
+	 */
+	private ProofResult prove(Prover prover, ExecutorService proofs, Path file) {
+		String name = file.toString();
+		// start time of the proof search, 0 while it waits for a session
+		AtomicLong started = new AtomicLong();
+		Future<ProverOutcome> future = null;
+		try {
+			String program = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			future = proofs.submit(() -> prover.prove(program, new Prover.Progress() {
+				@Override
+				public void started() {
+					started.set(System.currentTimeMillis());
+				}
+
+				@Override
+				public void accept(String message) {
+				}
+			}));
+			while (true) {
+				long elapsed = elapsed(started);
+				if (elapsed >= timeout) {
+					future.cancel(true);
+					return new ProofResult(name, Status.TIMEOUT, "No proof was found within "
+							+ TimeUnit.MILLISECONDS.toSeconds(timeout) + " seconds.", elapsed);
+				}
+				try {
+					ProverOutcome outcome = future.get(Math.min(POLL_INTERVAL, timeout - elapsed), TimeUnit.MILLISECONDS);
+					return new ProofResult(name, outcome.isProved() ? Status.PROVED : Status.NOT_PROVED,
+							outcome.getText(), elapsed(started));
+				} catch (TimeoutException e) {
+					// poll again
+				}
+			}
+		} catch (ExecutionException e) {
+			return new ProofResult(name, Status.ERROR, e.getCause().toString(), elapsed(started));
+		} catch (IOException | InterruptedException e) {
+			if (future != null) {
+				future.cancel(true);
+			}
+			return new ProofResult(name, Status.ERROR, e.toString(), elapsed(started));
+		}
+	}
+
+	private static long elapsed(AtomicLong started) {
+		long start = started.get();
+		return start == 0 ? 0 : System.currentTimeMillis() - start;
+	}
+
+	void write(List<ProofResult> results) throws IOException {
+		PrintWriter writer = out == null ? new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+				: new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8));
+		try {
+			if (format.equals("csv")) {
+				writeCsv(results, writer);
+			} else {
+				writeJson(results, writer);
+			}
+		} finally {
+			writer.flush();
+			if (out != null) {
+				writer.close();
+			}
+		}
+	}
+
+	static void writeCsv(List<ProofResult> results, PrintWriter writer) {
+		writer.println("file,status,wall_time_ms,message");
+		for (ProofResult result : results) {
+			writer.println(csv(result.getName()) + "," + result.getStatus() + "," + result.getWallTime() + ","
+					+ csv(result.getMessage()));
+		}
+	}
+
+	static void writeJson(List<ProofResult> results, PrintWriter writer) {
+		writer.println("[");
+		for (int i = 0; i < results.size(); i++) {
+			ProofResult result = results.get(i);
+			writer.print("  {\"file\": " + json(result.getName()) + ", \"status\": \"" + result.getStatus()
+					+ "\", \"wallTimeMs\": " + result.getWallTime() + ", \"message\": " + json(result.getMessage()) + "}");
+			writer.println(i < results.size() - 1 ? "," : "");
+		}
+		writer.println("]");
+	}
+
+	private static String csv(String value) {
+		if (value == null) {
+			return "";
+		}
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	private static String json(String value) {
+		if (value == null) {
+			return "null";
+		}
+		StringBuilder builder = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+			case '"':
+				builder.append("\\\"");
+				break;
+			case '\\':
+				builder.append("\\\\");
+				break;
+			case '\n':
+				builder.append("\\n");
+				break;
+			case '\r':
+				builder.append("\\r");
+				break;
+			case '\t':
+				builder.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					builder.append(String.format("\\u%04x", (int) c));
+				} else {
+					builder.append(c);
+				}
+			}
+		}
+		return builder.append('"').toString();
+	}
+}
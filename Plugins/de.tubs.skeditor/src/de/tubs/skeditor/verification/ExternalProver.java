@@ -0,0 +1,96 @@
+package de.tubs.skeditor.verification;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+import de.tubs.skeditor.verification.ProverWorkerProcess.ProverException;
+
+/**
+ * Runs the proofs in separate JVMs, so a runaway proof can neither exhaust the
+ * heap of the IDE nor survive its cancellation: an interrupted proof kills its
+ * worker process. Idle workers are kept and reused.
+ */
+public class ExternalProver implements Prover {
+
+	private final List<String> command;
+	private final Semaphore permits;
+	private final Deque<ProverWorkerProcess> idle = new LinkedBlockingDeque<ProverWorkerProcess>();
+	private volatile boolean closed;
+
+	/**
+	 * @param workers
+	 *            maximum number of worker processes
+	 * @param command
+	 *            command line that starts a {@link ProverWorker}
+	 */
+	public ExternalProver(int workers, List<String> command) {
+		this.command = new ArrayList<String>(command);
+		this.permits = new Semaphore(Math.max(1, workers));
+	}
+
+	/**
+	 * @param maxHeap
+	 *            maximum heap of a worker, e.g. "4g", or null for the JVM
+	 *            default
+	 * @param classPath
+	 *            class path with this plug-in and its libraries
+	 * @return the command line that starts a worker
+	 */
+	public static List<String> createCommand(String maxHeap, String classPath) {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		if (maxHeap != null && !maxHeap.isEmpty()) {
+			command.add("-Xmx" + maxHeap);
+		}
+		command.add("-cp");
+		command.add(classPath);
+		command.add(ProverWorker.class.getName());
+		return command;
+	}
+
+	@Override
+	public ProverOutcome prove(String program, Progress progress) throws Exception {
+		permits.acquire();
+		try {
+			if (closed) {
+				throw new IllegalStateException("The prover is closed");
+			}
+			ProverWorkerProcess worker = idle.pollFirst();
+			while (worker != null && !worker.isAlive()) {
+				worker = idle.pollFirst();
+			}
+			if (worker == null) {
+				progress.accept("Starting prover worker");
+				worker = new ProverWorkerProcess(command);
+			}
+			progress.started();
+			try {
+				ProverOutcome outcome = worker.prove(program, progress);
+				idle.addFirst(worker);
+				return outcome;
+			} catch (ProverException e) {
+				idle.addFirst(worker);
+				throw e;
+			} catch (IOException | InterruptedException | RuntimeException e) {
+				worker.destroy();
+				throw e;
+			}
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		ProverWorkerProcess worker;
+		while ((worker = idle.pollFirst()) != null) {
+			worker.quit();
+		}
+	}
+}
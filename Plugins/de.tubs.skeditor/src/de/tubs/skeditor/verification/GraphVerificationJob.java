@@ -0,0 +1,233 @@
+package de.tubs.skeditor.verification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import de.tubs.skeditor.Activator;
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+
+/**
+ * Checks a set of skills in parallel. The obligations are created by the job
+ * in an exclusive read transaction of the editing domain of the graph. Every
+ * obligation first waits for the obligations of its children, so leaf skills
+ * are proven first and independent subtrees are proven concurrently on a
+ * fork-join pool. Waiting for a proof is a managed block, so the pool keeps
+ * forking while its threads wait for the {@link ProofScheduler}.
+ */
+public class GraphVerificationJob extends Job {
+
+	private final Graph graph;
+	private final List<Node> nodes;
+	private final TemplateRegistry templates;
+	private final long timeout;
+	private final ProofCache cache;
+	private final Consumer<VerificationReport> listener;
+	private BiConsumer<ProofObligation, ProofResult> resultListener = (obligation, result) -> {
+	};
+
+	private final ConcurrentHashMap<ProofObligation, ObligationTask> tasks = new ConcurrentHashMap<ProofObligation, ObligationTask>();
+	private VerificationReport report;
+	private IProgressMonitor monitor;
+
+	/**
+	 * @param name
+	 *            name of the job
+	 * @param graph
+	 *            the graph of the skills
+	 * @param nodes
+	 *            the skills to check
+	 * @param templates
+	 *            the templates of the project of the graph
+	 * @param timeout
+	 *            timeout of a single check in milliseconds
+	 * @param cache
+	 *            proof cache to use, may be null
+	 * @param listener
+	 *            receives the report once all checks are finished
+	 */
+	public GraphVerificationJob(String name, Graph graph, List<Node> nodes, TemplateRegistry templates, long timeout,
+			ProofCache cache, Consumer<VerificationReport> listener) {
+		super(name);
+		this.graph = graph;
+		this.nodes = new ArrayList<Node>(nodes);
+		this.templates = templates;
+		this.timeout = timeout;
+		this.cache = cache;
+		this.listener = listener;
+		setUser(true);
+	}
+
+	/**
+	 * Sets a listener that is called from the worker threads as soon as a
+	 * single obligation is finished.
+	 */
+	public void setResultListener(BiConsumer<ProofObligation, ProofResult> resultListener) {
+		this.resultListener = resultListener;
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		this.monitor = monitor;
+		this.report = new VerificationReport();
+		tasks.clear();
+		monitor.beginTask(getName(), nodes.size() + 1);
+
+		monitor.subTask("Generating programs");
+		List<ProofObligation> obligations;
+		try {
+			obligations = createObligations();
+		} catch (InterruptedException e) {
+			monitor.done();
+			return Status.CANCEL_STATUS;
+		} catch (RuntimeException e) {
+			monitor.done();
+			return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+					"There was an error, please check the inputs. \nError message:\n\n" + e.toString(), e);
+		}
+		monitor.worked(1);
+
+		long start = System.currentTimeMillis();
+		ForkJoinPool pool = new ForkJoinPool(ProofScheduler.getDefault().getWorkerCount());
+		try {
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					List<ObligationTask> roots = new ArrayList<ObligationTask>();
+					for (ProofObligation obligation : obligations) {
+						roots.add(taskFor(obligation));
+					}
+					for (ObligationTask task : roots) {
+						task.join();
+					}
+				}
+			});
+		} finally {
+			pool.shutdown();
+			if (cache != null) {
+				cache.flush();
+			}
+			report.setWallTime(System.currentTimeMillis() - start);
+			monitor.done();
+		}
+
+		listener.accept(report);
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	@Override
+	public boolean belongsTo(Object family) {
+		return family == ProofJob.FAMILY;
+	}
+
+	/**
+	 * Snapshots the skills, the model is read in an exclusive transaction of
+	 * its editing domain.
+	 */
+	private List<ProofObligation> createObligations() throws InterruptedException {
+		List<ProofObligation> obligations = new ArrayList<ProofObligation>();
+		Runnable read = () -> obligations.addAll(VerificationTracker.forGraph(graph).createObligations(nodes, templates));
+		TransactionalEditingDomain domain = TransactionUtil.getEditingDomain(graph);
+		if (domain == null) {
+			read.run();
+		} else {
+			domain.runExclusive(read);
+		}
+		return obligations;
+	}
+
+	/**
+	 * Returns the task of the obligation and forks it if it was not started by
+	 * another parent yet.
+	 */
+	private ObligationTask taskFor(ProofObligation obligation) {
+		ObligationTask task = new ObligationTask(obligation);
+		ObligationTask existing = tasks.putIfAbsent(obligation, task);
+		if (existing != null) {
+			return existing;
+		}
+		task.fork();
+		return task;
+	}
+
+	private class ObligationTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final ProofObligation obligation;
+
+		ObligationTask(ProofObligation obligation) {
+			this.obligation = obligation;
+		}
+
+		@Override
+		protected void compute() {
+			List<ObligationTask> children = new ArrayList<ObligationTask>();
+			for (ProofObligation child : obligation.getChildren()) {
+				children.add(taskFor(child));
+			}
+			for (ObligationTask child : children) {
+				child.join();
+			}
+
+			ProofResult result;
+			if (monitor.isCanceled()) {
+				result = new ProofResult(obligation.getName(), ProofResult.Status.CANCELLED, "The check was cancelled.", 0);
+			} else if (obligation.getProgram() == null) {
+				result = new ProofResult(obligation.getName(), ProofResult.Status.SKIPPED, "The skill has no controller.", 0);
+			} else {
+				ProofBlocker blocker = new ProofBlocker(obligation);
+				try {
+					ForkJoinPool.managedBlock(blocker);
+					result = blocker.result;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					result = new ProofResult(obligation.getName(), ProofResult.Status.CANCELLED, "The check was interrupted.", 0);
+				}
+			}
+			report.add(result);
+			resultListener.accept(obligation, result);
+			synchronized (monitor) {
+				monitor.worked(1);
+			}
+		}
+	}
+
+	/**
+	 * Waits for the proof of an obligation, the pool may start another thread
+	 * meanwhile.
+	 */
+	private class ProofBlocker implements ForkJoinPool.ManagedBlocker {
+		private final ProofObligation obligation;
+		private ProofResult result;
+
+		ProofBlocker(ProofObligation obligation) {
+			this.obligation = obligation;
+		}
+
+		@Override
+		public boolean block() {
+			result = ProofJob.prove(obligation.getName(), obligation.getProgram(), timeout, cache, monitor);
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return result != null;
+		}
+	}
+}
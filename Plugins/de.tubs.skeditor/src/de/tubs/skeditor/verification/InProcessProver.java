@@ -0,0 +1,69 @@
+package de.tubs.skeditor.verification;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import edu.cmu.cs.ls.keymaerax.pt.ProvableSig;
+
+/**
+ * Runs the proofs inside the IDE with the sessions of a
+ * {@link ProverSessionPool}. KeYmaera X does not react to interrupts, so the
+ * search runs on a thread of its own: an interrupted proof returns at once,
+ * but the abandoned search keeps its session until it ends. The number of
+ * running searches therefore never exceeds the size of the pool.
+ */
+public class InProcessProver implements Prover {
+
+	private final ProverSessionPool pool;
+	private final ExecutorService searches = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "KeYmaera X proof search");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public InProcessProver(ProverSessionPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public ProverOutcome prove(String program, Progress progress) throws Exception {
+		ProverSession session = pool.acquire();
+		CompletableFuture<ProvableSig> search;
+		try {
+			search = CompletableFuture.supplyAsync(() -> session.prove(program), searches);
+		} catch (RuntimeException e) {
+			pool.discard(session);
+			throw e;
+		}
+		// the session is returned when the search ends, even if nobody waits for it
+		search.whenComplete((sig, error) -> {
+			if (error == null) {
+				pool.release(session);
+			} else {
+				pool.discard(session);
+			}
+		});
+		progress.started();
+		progress.accept("Searching proof");
+		try {
+			ProvableSig sig = search.get();
+			return new ProverOutcome(sig.isProved(), sig.prettyString());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw (Exception) e.getCause();
+		}
+	}
+
+	/**
+	 * Stops accepting proofs. The session pool is shared and closed by the
+	 * plug-in.
+	 */
+	@Override
+	public void close() {
+		searches.shutdown();
+	}
+}
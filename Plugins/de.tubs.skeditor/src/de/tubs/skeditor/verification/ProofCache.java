@@ -0,0 +1,281 @@
+package de.tubs.skeditor.verification;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+
+import de.tubs.skeditor.Activator;
+import de.tubs.skeditor.keymaera.KeYmaeraBridge;
+import de.tubs.skeditor.verification.ProofResult.Status;
+
+/**
+ * Persistent cache of proof results. Entries are keyed by a hash of the
+ * normalized KeYmaera X program together with the tactic and tool provider
+ * that were used, so a skill whose generated program did not change is not
+ * proven again. Only definite outcomes (proved / not proved) are cached.
+ * <p>
+ * The cache of a project is stored in the project's working location in the
+ * workspace metadata and evicts the least recently used entries once
+ * {@link #DEFAULT_CAPACITY} is reached. Changes are only kept in memory until
+ * {@link #flush()} is called, e.g. when a proof job is finished. The file is
+ * replaced by renaming a completely written temporary file, so a crash never
+ * leaves a partially written cache behind.
+ */
+public class ProofCache {
+
+	public static final int DEFAULT_CAPACITY = 500;
+
+	private static final String FILE_NAME = "proofcache.bin";
+	private static final int FORMAT_VERSION = 1;
+
+	private static final Map<String, ProofCache> caches = new HashMap<String, ProofCache>();
+
+	private final File file;
+	private final LinkedHashMap<String, ProofResult> entries;
+	// serializes the writers of the file, taken before the lock of the cache
+	private final Object fileLock = new Object();
+	private boolean dirty;
+
+	ProofCache(File file, int capacity) {
+		this.file = file;
+		this.entries = new LinkedHashMap<String, ProofResult>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ProofResult> eldest) {
+				return size() > capacity;
+			}
+		};
+		load();
+	}
+
+	/**
+	 * @param project
+	 *            the project the checked graph belongs to, may be null
+	 * @return the cache of the project, or a cache that is only kept in memory
+	 *         if no project is given
+	 */
+	public static synchronized ProofCache forProject(IProject project) {
+		String name = project == null ? "" : project.getName();
+		ProofCache cache = caches.get(name);
+		if (cache == null) {
+			File file = null;
+			if (project != null) {
+				file = project.getWorkingLocation(Activator.PLUGIN_ID).append(FILE_NAME).toFile();
+			}
+			cache = new ProofCache(file, DEFAULT_CAPACITY);
+			caches.put(name, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * Computes the cache key of a program for the tactic and tool provider
+	 * currently used by {@link KeYmaeraBridge}.
+	 */
+	public static String key(String program) {
+		return key(program, KeYmaeraBridge.TACTIC_NAME, KeYmaeraBridge.TOOL_PROVIDER_NAME);
+	}
+
+	public static String key(String program, String tactic, String toolProvider) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(tactic.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(toolProvider.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(normalize(program).getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Removes differences in line endings and white space that do not change
+	 * the meaning of a program.
+	 */
+	static String normalize(String program) {
+		StringBuilder builder = new StringBuilder(program.length());
+		for (String line : program.split("\r\n|\r|\n")) {
+			String trimmed = line.trim().replaceAll("\\s+", " ");
+			if (!trimmed.isEmpty()) {
+				builder.append(trimmed).append('\n');
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return the cached result for the key, or null
+	 */
+	public synchronized ProofResult get(String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Stores the result if it is a definite outcome. The cache is written to
+	 * disk by the next {@link #flush()}.
+	 */
+	public synchronized void put(String key, ProofResult result) {
+		if (result.getStatus() != Status.PROVED && result.getStatus() != Status.NOT_PROVED) {
+			return;
+		}
+		entries.put(key, result);
+		dirty = true;
+	}
+
+	public synchronized void invalidate(String key) {
+		if (entries.remove(key) != null) {
+			dirty = true;
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		dirty = true;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private void load() {
+		if (file == null || !file.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				String name = in.readUTF();
+				Status status = Status.valueOf(in.readUTF());
+				long wallTime = in.readLong();
+				byte[] message = new byte[in.readInt()];
+				in.readFully(message);
+				entries.put(key, new ProofResult(name, status, new String(message, StandardCharsets.UTF_8), wallTime));
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			entries.clear();
+			logError("Could not read the proof cache " + file, e);
+		}
+	}
+
+	/**
+	 * Writes the cache to disk if it was changed since the last flush. The
+	 * entries are serialized while the cache is locked, the file is written
+	 * afterwards.
+	 */
+	public void flush() {
+		if (file == null) {
+			return;
+		}
+		synchronized (fileLock) {
+			byte[] data;
+			synchronized (this) {
+				if (!dirty) {
+					return;
+				}
+				try {
+					data = serialize();
+				} catch (IOException e) {
+					logError("Could not write the proof cache " + file, e);
+					return;
+				}
+				dirty = false;
+			}
+			try {
+				write(data);
+			} catch (IOException e) {
+				synchronized (this) {
+					dirty = true;
+				}
+				logError("Could not write the proof cache " + file, e);
+			}
+		}
+	}
+
+	/**
+	 * Writes all changed caches to disk. Called when the plug-in is stopped.
+	 */
+	public static void flushAll() {
+		List<ProofCache> all;
+		synchronized (ProofCache.class) {
+			all = new ArrayList<ProofCache>(caches.values());
+		}
+		for (ProofCache cache : all) {
+			cache.flush();
+		}
+	}
+
+	private byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(entries.size());
+		// iteration order is least recently used first, which is restored on load
+		for (Map.Entry<String, ProofResult> entry : entries.entrySet()) {
+			ProofResult result = entry.getValue();
+			byte[] message = result.getMessage().getBytes(StandardCharsets.UTF_8);
+			out.writeUTF(entry.getKey());
+			out.writeUTF(result.getName());
+			out.writeUTF(result.getStatus().name());
+			out.writeLong(result.getWallTime());
+			out.writeInt(message.length);
+			out.write(message);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private void write(byte[] data) throws IOException {
+		file.getParentFile().mkdirs();
+		Path target = file.toPath();
+		Path temp = Files.createTempFile(target.getParent(), FILE_NAME, ".tmp");
+		try {
+			try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+				out.write(data);
+				out.getFD().sync();
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void logError(String message, Throwable e) {
+		if (Activator.getDefault() != null) {
+			Activator.getDefault().logError(message, e);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package de.tubs.skeditor.verification;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
+
+import de.tubs.skeditor.verification.ProofResult.Status;
+
+/**
+ * Runs the KeYmaera check of one skill in the background. The proof search
+ * itself is executed on the {@link ProofScheduler} pool by the {@link Prover}
+ * backend of {@link Provers#getDefault()}, the job only waits for it, reports
+ * progress and aborts the wait on cancellation or timeout.
+ * <p>
+ * Cancellation and timeout interrupt the worker of the proof, but only the
+ * {@link ExternalProver} can stop a running proof search. The in-process
+ * KeYmaera X prover ignores the interrupt: the worker is free again at once,
+ * but the search runs to its end in the background and keeps its prover
+ * session until then, so later proofs wait for a free session.
+ * <p>
+ * The listener is called from the job thread, callers that want to update the
+ * UI have to switch to the display thread themselves.
+ */
+public class ProofJob extends Job {
+
+	/**
+	 * Job family of all proof jobs, see {@link #belongsTo(Object)}
+	 */
+	public static final Object FAMILY = ProofJob.class;
+
+	/**
+	 * Default timeout of a single check in milliseconds
+	 */
+	public static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+	private static final long POLL_INTERVAL = 250;
+
+	private final String skillName;
+	private final String program;
+	private final long timeout;
+	private final ProofCache cache;
+	private final Consumer<ProofResult> listener;
+
+	/**
+	 * @param skillName
+	 *            name of the checked skill, used for progress and the result
+	 * @param program
+	 *            the generated KeYmaera X program
+	 * @param timeout
+	 *            timeout in milliseconds
+	 * @param cache
+	 *            cache that is consulted before and updated after the proof,
+	 *            may be null
+	 * @param listener
+	 *            receives the result once the job is finished
+	 */
+	public ProofJob(String skillName, String program, long timeout, ProofCache cache, Consumer<ProofResult> listener) {
+		super("KeYmaera check of " + skillName);
+		this.skillName = skillName;
+		this.program = program;
+		this.timeout = timeout;
+		this.cache = cache;
+		this.listener = listener;
+		setUser(true);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		monitor.beginTask(getName(), IProgressMonitor.UNKNOWN);
+		try {
+			ProofResult result = prove(skillName, program, timeout, cache, monitor);
+			if (cache != null) {
+				cache.flush();
+			}
+			listener.accept(result);
+			return result.getStatus() == Status.CANCELLED ? org.eclipse.core.runtime.Status.CANCEL_STATUS
+					: org.eclipse.core.runtime.Status.OK_STATUS;
+		} finally {
+			monitor.done();
+		}
+	}
+
+	@Override
+	public boolean belongsTo(Object family) {
+		return family == FAMILY;
+	}
+
+	/**
+	 * Looks the program up in the cache and proves it with
+	 * {@link #prove(String, String, long, IProgressMonitor)} if there is no
+	 * cached result yet.
+	 *
+	 * @param cache
+	 *            the cache to use, may be null
+	 */
+	public static ProofResult prove(String skillName, String program, long timeout, ProofCache cache,
+			IProgressMonitor monitor) {
+		if (cache == null) {
+			return prove(skillName, program, timeout, monitor);
+		}
+		long start = System.currentTimeMillis();
+		String key = ProofCache.key(program);
+		ProofResult cached = cache.get(key);
+		if (cached != null) {
+			return new ProofResult(skillName, cached.getStatus(), cached.getMessage(), System.currentTimeMillis() - start,
+					true);
+		}
+		ProofResult result = prove(skillName, program, timeout, monitor);
+		cache.put(key, result);
+		return result;
+	}
+
+	/**
+	 * Proves the program on the shared prover backend and blocks until the proof
+	 * is finished, the timeout is reached or the monitor is cancelled. The
+	 * timeout and the reported wall time start when the backend starts the
+	 * search, see {@link Prover.Progress#started()}; waiting for a free worker
+	 * or session does not count.
+	 *
+	 * @param skillName
+	 *            name used for the result
+	 * @param program
+	 *            the KeYmaera X program
+	 * @param timeout
+	 *            timeout in milliseconds
+	 * @param monitor
+	 *            monitor that is polled for cancellation
+	 * @return the result, never null
+	 */
+	public static ProofResult prove(String skillName, String program, long timeout, IProgressMonitor monitor) {
+		// start time of the proof search, 0 while it waits for a worker or session
+		AtomicLong started = new AtomicLong();
+		monitor.subTask("Waiting for a free prover");
+		AtomicReference<String> progress = new AtomicReference<String>("Searching proof");
+		Future<ProverOutcome> future = ProofScheduler.getDefault()
+				.submit(() -> Provers.getDefault().prove(program, new Prover.Progress() {
+					@Override
+					public void started() {
+						started.set(System.currentTimeMillis());
+					}
+
+					@Override
+					public void accept(String message) {
+						progress.set(message);
+					}
+				}));
+
+		try {
+			while (true) {
+				long elapsed = elapsed(started);
+				if (monitor.isCanceled()) {
+					future.cancel(true);
+					return new ProofResult(skillName, Status.CANCELLED, "The check was cancelled.", elapsed);
+				}
+				if (elapsed >= timeout) {
+					future.cancel(true);
+					return new ProofResult(skillName, Status.TIMEOUT,
+							"No proof was found within " + TimeUnit.MILLISECONDS.toSeconds(timeout) + " seconds.", elapsed);
+				}
+				if (started.get() != 0) {
+					monitor.subTask(skillName + ": " + progress.get() + " (" + TimeUnit.MILLISECONDS.toSeconds(elapsed) + "s)");
+				}
+				try {
+					ProverOutcome outcome = future.get(Math.min(POLL_INTERVAL, timeout - elapsed), TimeUnit.MILLISECONDS);
+					return new ProofResult(skillName, outcome.isProved() ? Status.PROVED : Status.NOT_PROVED,
+							outcome.getText(), elapsed(started));
+				} catch (TimeoutException e) {
+					// poll again
+				}
+			}
+		} catch (ExecutionException e) {
+			return new ProofResult(skillName, Status.ERROR, e.getCause().toString(), elapsed(started));
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			return new ProofResult(skillName, Status.CANCELLED, "The check was interrupted.", elapsed(started));
+		}
+	}
+
+	private static long elapsed(AtomicLong started) {
+		long start = started.get();
+		return start == 0 ? 0 : System.currentTimeMillis() - start;
+	}
+}
@@ -0,0 +1,93 @@
+package de.tubs.skeditor.verification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import SkillGraph.Node;
+import de.tubs.skeditor.compositionality.KeymaeraProgram;
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+import de.tubs.skeditor.utils.GraphUtil;
+
+/**
+ * Snapshot of everything that is needed to check one skill: the generated
+ * KeYmaera X program and the obligations of its child skills. The
+ * snapshot is taken while the model may be read and can afterwards be proven
+ * on any thread.
+ */
+public class ProofObligation {
+
+	private final Node node;
+	private final String name;
+	private final String program;
+	private final List<ProofObligation> children = new ArrayList<ProofObligation>();
+	private long revision;
+
+	private ProofObligation(Node node, TemplateRegistry templates) {
+		this.node = node;
+		this.name = node.getName();
+		this.program = KeymaeraProgram.create(node, templates);
+	}
+
+	/**
+	 * Creates the obligations for the given nodes. Child obligations are only
+	 * linked for children that are part of the given collection.
+	 *
+	 * @param nodes
+	 *            the skills to check
+	 * @param templates
+	 *            the templates of the project, see {@link KeymaeraProgram}
+	 * @return one obligation per node, in the order of the collection
+	 */
+	public static List<ProofObligation> create(Collection<Node> nodes, TemplateRegistry templates) {
+		Map<Node, ProofObligation> obligations = new LinkedHashMap<Node, ProofObligation>();
+		for (Node node : nodes) {
+			if (!obligations.containsKey(node)) {
+				obligations.put(node, new ProofObligation(node, templates));
+			}
+		}
+		for (ProofObligation obligation : obligations.values()) {
+			for (Node child : GraphUtil.getChildNodes(obligation.node)) {
+				ProofObligation childObligation = obligations.get(child);
+				if (childObligation != null) {
+					obligation.children.add(childObligation);
+				}
+			}
+		}
+		return new ArrayList<ProofObligation>(obligations.values());
+	}
+
+	public Node getNode() {
+		return node;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the generated program or null if the skill has no controller
+	 */
+	public String getProgram() {
+		return program;
+	}
+
+	public List<ProofObligation> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	/**
+	 * @return the revision of the skill in the {@link VerificationTracker} at
+	 *         the time the snapshot was taken
+	 */
+	public long getRevision() {
+		return revision;
+	}
+
+	void setRevision(long revision) {
+		this.revision = revision;
+	}
+}
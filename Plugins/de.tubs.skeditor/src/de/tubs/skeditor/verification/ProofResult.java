@@ -0,0 +1,71 @@
+package de.tubs.skeditor.verification;
+
+/**
+ * Immutable outcome of a single KeYmaera check.
+ */
+public class ProofResult {
+
+	public enum Status {
+		PROVED, NOT_PROVED, TIMEOUT, CANCELLED, ERROR, SKIPPED
+	}
+
+	private final String name;
+	private final Status status;
+	private final String message;
+	private final long wallTime;
+	private final boolean cached;
+
+	public ProofResult(String name, Status status, String message, long wallTime) {
+		this(name, status, message, wallTime, false);
+	}
+
+	public ProofResult(String name, Status status, String message, long wallTime, boolean cached) {
+		this.name = name;
+		this.status = status;
+		this.message = message;
+		this.wallTime = wallTime;
+		this.cached = cached;
+	}
+
+	/**
+	 * @return the name of the checked skill
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return the pretty printed provable, or the error message if the check
+	 *         did not finish
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * @return the wall time of the check in milliseconds
+	 */
+	public long getWallTime() {
+		return wallTime;
+	}
+
+	/**
+	 * @return true if the result was taken from the {@link ProofCache}
+	 */
+	public boolean isCached() {
+		return cached;
+	}
+
+	public boolean isProved() {
+		return status == Status.PROVED;
+	}
+
+	@Override
+	public String toString() {
+		return "ProofResult [name=" + name + ", status=" + status + ", wallTime=" + wallTime + "ms, cached=" + cached + "]";
+	}
+}
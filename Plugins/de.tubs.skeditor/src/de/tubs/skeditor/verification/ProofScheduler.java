@@ -0,0 +1,72 @@
+package de.tubs.skeditor.verification;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool on which the KeYmaera X proofs are run by the
+ * {@link Prover} backend. Proof jobs only wait on these workers, so the number
+ * of concurrently running proofs never exceeds the pool size no matter how many
+ * jobs are scheduled. A timed out or cancelled in-process search frees its
+ * worker at once but keeps its {@link ProverSession} until it ends, so it still
+ * counts against the sessions of the {@link ProverSessionPool}, which is as
+ * large as this pool by default.
+ */
+public class ProofScheduler {
+
+	private static ProofScheduler instance;
+
+	private final ExecutorService executor;
+	private final int workers;
+
+	private ProofScheduler(int workers) {
+		this.workers = workers;
+		AtomicInteger counter = new AtomicInteger();
+		ThreadFactory factory = r -> {
+			Thread thread = new Thread(r, "KeYmaera X prover #" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), factory);
+		pool.allowCoreThreadTimeOut(true);
+		this.executor = pool;
+	}
+
+	/**
+	 * @return the shared scheduler, sized to the number of available processors
+	 */
+	public static synchronized ProofScheduler getDefault() {
+		if (instance == null) {
+			instance = new ProofScheduler(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops all workers. Called when the plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.executor.shutdownNow();
+			instance = null;
+		}
+	}
+
+	/**
+	 * @return the maximum number of proofs that run at the same time
+	 */
+	public int getWorkerCount() {
+		return workers;
+	}
+
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(task);
+	}
+}
@@ -0,0 +1,46 @@
+package de.tubs.skeditor.verification;
+
+import java.util.function.Consumer;
+
+/**
+ * A backend that proves generated KeYmaera X programs. Implementations must
+ * allow several proofs at the same time. When the calling thread is
+ * interrupted, a backend stops waiting for the proof; whether the proof search
+ * itself is stopped depends on the backend, see {@link InProcessProver} and
+ * {@link ExternalProver}.
+ */
+public interface Prover {
+
+	/**
+	 * @param program
+	 *            the KeYmaera X program
+	 * @param progress
+	 *            is told when the proof search starts and receives progress
+	 *            messages while it is running
+	 * @return the outcome of the proof search
+	 * @throws InterruptedException
+	 *             if the calling thread was interrupted
+	 * @throws Exception
+	 *             if the program could not be parsed or the prover failed
+	 */
+	ProverOutcome prove(String program, Progress progress) throws Exception;
+
+	/**
+	 * Releases all resources of the backend.
+	 */
+	void close();
+
+	/**
+	 * Receives the progress of a proof.
+	 */
+	interface Progress extends Consumer<String> {
+
+		/**
+		 * Called once the backend has a session or worker for the proof and
+		 * starts the search. Timeouts are measured from here, waiting for a
+		 * free session does not count.
+		 */
+		default void started() {
+		}
+	}
+}
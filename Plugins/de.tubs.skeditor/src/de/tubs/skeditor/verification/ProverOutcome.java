@@ -0,0 +1,26 @@
+package de.tubs.skeditor.verification;
+
+/**
+ * Outcome of a single proof search, independent of the backend that ran it.
+ */
+public class ProverOutcome {
+
+	private final boolean proved;
+	private final String text;
+
+	public ProverOutcome(boolean proved, String text) {
+		this.proved = proved;
+		this.text = text;
+	}
+
+	public boolean isProved() {
+		return proved;
+	}
+
+	/**
+	 * @return the pretty printed provable
+	 */
+	public String getText() {
+		return text;
+	}
+}
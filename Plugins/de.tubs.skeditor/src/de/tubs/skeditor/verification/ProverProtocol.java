@@ -0,0 +1,79 @@
+package de.tubs.skeditor.verification;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Frames exchanged between the IDE and a {@link ProverWorker} over the
+ * standard streams of the worker process. A frame is the type byte, the length
+ * of the payload and the UTF-8 encoded payload.
+ */
+public class ProverProtocol {
+
+	/** IDE to worker: prove the program in the payload */
+	public static final int PROVE = 1;
+	/** IDE to worker: terminate */
+	public static final int QUIT = 2;
+
+	/** worker to IDE: the worker is initialized and waits for programs */
+	public static final int READY = 10;
+	/** worker to IDE: progress message of the running proof */
+	public static final int PROGRESS = 11;
+	/** worker to IDE: the program was proved, the payload is the provable */
+	public static final int PROVED = 12;
+	/** worker to IDE: no proof was found, the payload is the provable */
+	public static final int NOT_PROVED = 13;
+	/** worker to IDE: the proof failed, the payload is the error */
+	public static final int ERROR = 14;
+
+	private ProverProtocol() {
+	}
+
+	public static void write(DataOutputStream out, int type, String payload) throws IOException {
+		byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+		synchronized (out) {
+			out.writeByte(type);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+			out.flush();
+		}
+	}
+
+	/**
+	 * @return the next frame or null if the stream was closed
+	 */
+	public static Frame read(DataInputStream in) throws IOException {
+		int type = in.read();
+		if (type < 0) {
+			return null;
+		}
+		try {
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return new Frame(type, new String(bytes, StandardCharsets.UTF_8));
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	public static class Frame {
+		private final int type;
+		private final String payload;
+
+		public Frame(int type, String payload) {
+			this.type = type;
+			this.payload = payload;
+		}
+
+		public int getType() {
+			return type;
+		}
+
+		public String getPayload() {
+			return payload;
+		}
+	}
+}
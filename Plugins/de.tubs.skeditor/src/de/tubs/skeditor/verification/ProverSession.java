@@ -0,0 +1,63 @@
+package de.tubs.skeditor.verification;
+
+import de.tubs.skeditor.keymaera.KeYmaeraBridge;
+import edu.cmu.cs.ls.keymaerax.pt.ProvableSig;
+
+/**
+ * A slot for one proof at a time, handed out by the {@link ProverSessionPool}.
+ * All sessions prove with the single Z3 tool provider of KeYmaera X, which is
+ * owned by the pool; a session only keeps its bridge between proofs.
+ */
+public class ProverSession {
+
+	private static final String HEALTH_CHECK_FORMULA = "1+1=2";
+
+	private final KeYmaeraBridge bridge;
+	private long lastUsed;
+	private int proofCount;
+
+	ProverSession() {
+		this.bridge = new KeYmaeraBridge();
+		this.lastUsed = System.currentTimeMillis();
+	}
+
+	public ProvableSig prove(String program) {
+		KeYmaeraBridge.init();
+		proofCount++;
+		return bridge.prove(KeYmaeraBridge.parseProgram(program));
+	}
+
+	/**
+	 * Proves a trivial arithmetic formula, which fails if the Z3 process of
+	 * the shared tool provider is gone.
+	 *
+	 * @return whether the tool provider works
+	 */
+	boolean checkToolProvider() {
+		try {
+			KeYmaeraBridge.init();
+			return bridge.prove(KeYmaeraBridge.parseFormula(HEALTH_CHECK_FORMULA)).isProved();
+		} catch (Exception e) {
+			ProverSessionPool.logError("The health check of the KeYmaera X tool provider failed", e);
+			return false;
+		}
+	}
+
+	/**
+	 * @return the number of proofs run in this session
+	 */
+	public int getProofCount() {
+		return proofCount;
+	}
+
+	/**
+	 * @return milliseconds since the session was last released
+	 */
+	long getIdleTime() {
+		return System.currentTimeMillis() - lastUsed;
+	}
+
+	void touch() {
+		lastUsed = System.currentTimeMillis();
+	}
+}
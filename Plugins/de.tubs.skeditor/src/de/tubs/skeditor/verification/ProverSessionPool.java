@@ -0,0 +1,247 @@
+package de.tubs.skeditor.verification;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Platform;
+
+import de.tubs.skeditor.Activator;
+import de.tubs.skeditor.keymaera.KeYmaeraBridge;
+
+/**
+ * Pool of long-lived prover sessions. Released sessions are kept warm and
+ * handed out again, the most recently used one first, sessions that were idle
+ * longer than the idle timeout are closed.
+ * <p>
+ * KeYmaera X has a single global tool provider, so all sessions share one Z3
+ * process and the number of sessions only limits the number of concurrent
+ * proofs. The pool owns that provider: it is installed for the first session
+ * and shut down once no session is left. If no proof succeeded for a while or
+ * a session was discarded after a failed proof, the provider is health checked
+ * before the next session is handed out and restarted if the check fails.
+ * A restart aborts the proofs that are still running on the broken provider.
+ */
+public class ProverSessionPool {
+
+	/**
+	 * Preference with the maximum number of sessions
+	 */
+	public static final String PREF_SIZE = "proverSessions";
+
+	/**
+	 * Preference with the idle timeout in seconds
+	 */
+	public static final String PREF_IDLE_TIMEOUT = "proverIdleTimeout";
+
+	public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+	/**
+	 * The tool provider is health checked before a session is handed out if no
+	 * proof succeeded for this long
+	 */
+	public static final long HEALTH_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+	private static ProverSessionPool instance;
+
+	private final int size;
+	private final long idleTimeout;
+	private final Deque<ProverSession> idle = new ArrayDeque<ProverSession>();
+	private final ScheduledExecutorService reaper;
+	// held while the tool provider is checked, before the lock of the pool
+	private final Object providerLock = new Object();
+	private int open;
+	private boolean closed;
+	// time of the last successful proof or health check, 0 if the tool
+	// provider is suspect
+	private long lastHealthy = System.currentTimeMillis();
+
+	/**
+	 * @param size
+	 *            maximum number of sessions
+	 * @param idleTimeout
+	 *            milliseconds after which an unused session is closed
+	 */
+	public ProverSessionPool(int size, long idleTimeout) {
+		this.size = Math.max(1, size);
+		this.idleTimeout = idleTimeout;
+		this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "KeYmaera X session reaper");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1000, idleTimeout / 4);
+		reaper.scheduleWithFixedDelay(this::closeIdleSessions, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return the shared pool, configured by the plug-in preferences
+	 */
+	public static synchronized ProverSessionPool getDefault() {
+		if (instance == null) {
+			int size = ProofScheduler.getDefault().getWorkerCount();
+			long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+			if (Platform.isRunning()) {
+				size = Platform.getPreferencesService().getInt(Activator.PLUGIN_ID, PREF_SIZE, size, null);
+				idleTimeout = TimeUnit.SECONDS.toMillis(Platform.getPreferencesService().getLong(Activator.PLUGIN_ID,
+						PREF_IDLE_TIMEOUT, TimeUnit.MILLISECONDS.toSeconds(idleTimeout), null));
+			}
+			instance = new ProverSessionPool(size, idleTimeout);
+		}
+		return instance;
+	}
+
+	/**
+	 * Closes the shared pool. Called when the plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.close();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Hands out an idle session or opens a new one, blocks while all sessions
+	 * are in use.
+	 */
+	public ProverSession acquire() throws InterruptedException {
+		ProverSession session;
+		synchronized (this) {
+			while (!closed && idle.isEmpty() && open >= size) {
+				wait();
+			}
+			if (closed) {
+				throw new IllegalStateException("The prover session pool is closed");
+			}
+			session = idle.pollFirst();
+			if (session == null) {
+				open++;
+			}
+		}
+		if (session == null) {
+			try {
+				session = new ProverSession();
+			} catch (RuntimeException | Error e) {
+				discard(null);
+				throw e;
+			}
+		}
+		checkToolProvider(session);
+		return session;
+	}
+
+	/**
+	 * Restarts the tool provider if it is suspect and fails the health check.
+	 * Only one session checks at a time, the others wait for its verdict.
+	 */
+	private void checkToolProvider(ProverSession session) {
+		synchronized (providerLock) {
+			synchronized (this) {
+				if (System.currentTimeMillis() - lastHealthy < HEALTH_CHECK_INTERVAL) {
+					return;
+				}
+			}
+			if (!session.checkToolProvider()) {
+				logError("The KeYmaera X tool provider does not respond, restarting it", null);
+				KeYmaeraBridge.shutdownToolProvider();
+				KeYmaeraBridge.init();
+				if (!session.checkToolProvider()) {
+					// the next proof reports the error
+					return;
+				}
+			}
+			synchronized (this) {
+				lastHealthy = System.currentTimeMillis();
+			}
+		}
+	}
+
+	/**
+	 * Returns a session whose proof finished to the pool.
+	 */
+	public synchronized void release(ProverSession session) {
+		if (closed) {
+			close(session);
+			return;
+		}
+		session.touch();
+		lastHealthy = System.currentTimeMillis();
+		idle.addFirst(session);
+		notifyAll();
+	}
+
+	/**
+	 * Drops a session whose proof failed or was interrupted. This only frees
+	 * its slot, the shared tool provider is health checked before the next
+	 * session is handed out.
+	 */
+	public synchronized void discard(ProverSession session) {
+		lastHealthy = 0;
+		close(session);
+	}
+
+	private synchronized void close(ProverSession session) {
+		open--;
+		notifyAll();
+		if (open == 0) {
+			KeYmaeraBridge.shutdownToolProvider();
+			// the next session installs a new provider
+			lastHealthy = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * @return the number of open sessions, idle or in use
+	 */
+	public synchronized int getOpenSessions() {
+		return open;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public synchronized void close() {
+		closed = true;
+		reaper.shutdownNow();
+		open -= idle.size();
+		idle.clear();
+		notifyAll();
+		KeYmaeraBridge.shutdownToolProvider();
+	}
+
+	/**
+	 * Logs to the plug-in log, or to the standard error stream when the pool
+	 * is used by the headless batch verifier.
+	 */
+	static void logError(String message, Throwable e) {
+		try {
+			if (Activator.getDefault() != null) {
+				Activator.getDefault().logError(message, e);
+				return;
+			}
+		} catch (LinkageError headless) {
+			// the Eclipse bundles are not on the class path
+		}
+		System.err.println(message);
+		if (e != null) {
+			e.printStackTrace();
+		}
+	}
+
+	private synchronized void closeIdleSessions() {
+		Iterator<ProverSession> iterator = idle.descendingIterator();
+		while (iterator.hasNext()) {
+			ProverSession session = iterator.next();
+			if (session.getIdleTime() < idleTimeout) {
+				break;
+			}
+			iterator.remove();
+			close(session);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package de.tubs.skeditor.verification;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import de.tubs.skeditor.keymaera.KeYmaeraBridge;
+import de.tubs.skeditor.verification.ProverProtocol.Frame;
+import edu.cmu.cs.ls.keymaerax.pt.ProvableSig;
+
+/**
+ * Entry point of a prover worker process, started by the
+ * {@link ExternalProver}. The worker reads programs from standard input and
+ * writes progress and results to standard output, see {@link ProverProtocol}.
+ * Everything else the prover prints is redirected to standard error.
+ */
+public class ProverWorker {
+
+	private static final long HEARTBEAT_INTERVAL = 2000;
+
+	public static void main(String[] args) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+		System.setOut(System.err);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+
+		ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "Prover worker heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+		KeYmaeraBridge bridge = new KeYmaeraBridge();
+		ProverProtocol.write(out, ProverProtocol.READY, "");
+
+		try {
+			Frame frame;
+			while ((frame = ProverProtocol.read(in)) != null && frame.getType() != ProverProtocol.QUIT) {
+				if (frame.getType() == ProverProtocol.PROVE) {
+					prove(bridge, frame.getPayload(), out, heartbeat);
+				}
+			}
+		} finally {
+			heartbeat.shutdownNow();
+			KeYmaeraBridge.shutdownToolProvider();
+		}
+		System.exit(0);
+	}
+
+	private static void prove(KeYmaeraBridge bridge, String program, DataOutputStream out,
+			ScheduledExecutorService heartbeat) throws IOException {
+		long start = System.currentTimeMillis();
+		ScheduledFuture<?> progress = heartbeat.scheduleAtFixedRate(() -> {
+			Runtime runtime = Runtime.getRuntime();
+			long usedMemory = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+			try {
+				ProverProtocol.write(out, ProverProtocol.PROGRESS, "Searching proof ("
+						+ TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start) + "s, " + usedMemory + " MB)");
+			} catch (IOException e) {
+				// the IDE is gone, the main loop terminates on the closed input
+			}
+		}, 0, HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+
+		try {
+			ProvableSig sig = bridge.prove(KeYmaeraBridge.parseProgram(program));
+			progress.cancel(false);
+			ProverProtocol.write(out, sig.isProved() ? ProverProtocol.PROVED : ProverProtocol.NOT_PROVED,
+					sig.prettyString());
+		} catch (Throwable e) {
+			progress.cancel(false);
+			e.printStackTrace();
+			ProverProtocol.write(out, ProverProtocol.ERROR, e.toString());
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package de.tubs.skeditor.verification;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import de.tubs.skeditor.verification.ProverProtocol.Frame;
+
+/**
+ * One running {@link ProverWorker} process. The frames of the worker are read
+ * by a dedicated thread, so waiting for a result can be interrupted.
+ */
+class ProverWorkerProcess {
+
+	private static final Frame CLOSED = new Frame(-1, "The prover worker terminated");
+
+	private final Process process;
+	private final DataOutputStream out;
+	private final BlockingQueue<Frame> frames = new LinkedBlockingQueue<Frame>();
+
+	ProverWorkerProcess(List<String> command) throws IOException, InterruptedException {
+		process = new ProcessBuilder(command).redirectError(Redirect.INHERIT).start();
+		out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+		DataInputStream in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+		Thread reader = new Thread(() -> {
+			try {
+				Frame frame;
+				while ((frame = ProverProtocol.read(in)) != null) {
+					frames.add(frame);
+				}
+			} catch (IOException e) {
+				// treated like a terminated worker
+			}
+			frames.add(CLOSED);
+		}, "Prover worker reader");
+		reader.setDaemon(true);
+		reader.start();
+
+		try {
+			Frame frame = frames.take();
+			if (frame.getType() != ProverProtocol.READY) {
+				throw new IOException(frame.getPayload());
+			}
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			destroy();
+			throw e;
+		}
+	}
+
+	ProverOutcome prove(String program, Consumer<String> progress)
+			throws IOException, InterruptedException, ProverException {
+		ProverProtocol.write(out, ProverProtocol.PROVE, program);
+		while (true) {
+			Frame frame = frames.take();
+			switch (frame.getType()) {
+			case ProverProtocol.PROGRESS:
+				progress.accept(frame.getPayload());
+				break;
+			case ProverProtocol.PROVED:
+				return new ProverOutcome(true, frame.getPayload());
+			case ProverProtocol.NOT_PROVED:
+				return new ProverOutcome(false, frame.getPayload());
+			case ProverProtocol.ERROR:
+				throw new ProverException(frame.getPayload());
+			default:
+				throw new IOException(frame.getPayload());
+			}
+		}
+	}
+
+	boolean isAlive() {
+		return process.isAlive();
+	}
+
+	void quit() {
+		try {
+			ProverProtocol.write(out, ProverProtocol.QUIT, "");
+		} catch (IOException e) {
+			destroy();
+		}
+	}
+
+	void destroy() {
+		process.destroyForcibly();
+	}
+
+	/**
+	 * The worker is alive, but the proof itself failed.
+	 */
+	static class ProverException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		ProverException(String message) {
+			super(message);
+		}
+	}
+}
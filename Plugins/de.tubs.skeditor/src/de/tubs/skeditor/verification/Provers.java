@@ -0,0 +1,100 @@
+package de.tubs.skeditor.verification;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+
+import de.tubs.skeditor.Activator;
+
+/**
+ * Creates the {@link Prover} backend selected in the plug-in preferences.
+ */
+public class Provers {
+
+	/**
+	 * Preference with the backend, {@link #BACKEND_IN_PROCESS} or
+	 * {@link #BACKEND_EXTERNAL}
+	 */
+	public static final String PREF_BACKEND = "proverBackend";
+
+	/**
+	 * Preference with the maximum heap of an external worker, e.g. "4g"
+	 */
+	public static final String PREF_WORKER_HEAP = "proverWorkerHeap";
+
+	public static final String BACKEND_IN_PROCESS = "inprocess";
+	public static final String BACKEND_EXTERNAL = "external";
+
+	private static Prover instance;
+
+	private Provers() {
+	}
+
+	/**
+	 * @return the shared backend, the in-process prover unless the external
+	 *         one is selected
+	 */
+	public static synchronized Prover getDefault() {
+		if (instance == null) {
+			String backend = BACKEND_IN_PROCESS;
+			String heap = null;
+			if (Platform.isRunning()) {
+				backend = Platform.getPreferencesService().getString(Activator.PLUGIN_ID, PREF_BACKEND, backend, null);
+				heap = Platform.getPreferencesService().getString(Activator.PLUGIN_ID, PREF_WORKER_HEAP, heap, null);
+			}
+			instance = create(backend, heap);
+		}
+		return instance;
+	}
+
+	/**
+	 * Closes the shared backend. Called when the plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.close();
+			instance = null;
+		}
+	}
+
+	private static Prover create(String backend, String heap) {
+		if (BACKEND_EXTERNAL.equals(backend)) {
+			try {
+				return new ExternalProver(ProofScheduler.getDefault().getWorkerCount(),
+						ExternalProver.createCommand(heap, getClassPath()));
+			} catch (IOException e) {
+				Activator.getDefault().logError("Cannot start external prover, proving in process", e);
+			}
+		}
+		return new InProcessProver(ProverSessionPool.getDefault());
+	}
+
+	/**
+	 * @return the class path of this plug-in including its libraries, or the
+	 *         class path of the JVM when running outside of Eclipse
+	 */
+	private static String getClassPath() throws IOException {
+		if (!Platform.isRunning()) {
+			return System.getProperty("java.class.path");
+		}
+		Bundle bundle = Platform.getBundle(Activator.PLUGIN_ID);
+		File root = FileLocator.getBundleFile(bundle);
+		List<String> entries = new ArrayList<String>();
+		for (String entry : bundle.getHeaders().get(Constants.BUNDLE_CLASSPATH).split(",")) {
+			entry = entry.trim();
+			if (entry.equals(".")) {
+				File bin = new File(root, "bin");
+				entries.add(bin.isDirectory() ? bin.getPath() : root.getPath());
+			} else if (bundle.getEntry(entry) != null) {
+				entries.add(new File(FileLocator.toFileURL(bundle.getEntry(entry)).getPath()).getPath());
+			}
+		}
+		return String.join(File.pathSeparator, entries);
+	}
+}
@@ -0,0 +1,72 @@
+package de.tubs.skeditor.verification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import de.tubs.skeditor.verification.ProofResult.Status;
+
+/**
+ * Collects the results of a graph verification in the order in which the
+ * checks finished.
+ */
+public class VerificationReport {
+
+	private final List<ProofResult> results = Collections.synchronizedList(new ArrayList<ProofResult>());
+	private long wallTime;
+
+	void add(ProofResult result) {
+		results.add(result);
+	}
+
+	void setWallTime(long wallTime) {
+		this.wallTime = wallTime;
+	}
+
+	public List<ProofResult> getResults() {
+		synchronized (results) {
+			return new ArrayList<ProofResult>(results);
+		}
+	}
+
+	/**
+	 * @return the wall time of the whole verification in milliseconds
+	 */
+	public long getWallTime() {
+		return wallTime;
+	}
+
+	public int count(Status status) {
+		int count = 0;
+		for (ProofResult result : getResults()) {
+			if (result.getStatus() == status) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return a human readable summary with one line per checked skill
+	 */
+	public String format() {
+		StringBuilder builder = new StringBuilder();
+		List<ProofResult> results = getResults();
+		builder.append(count(Status.PROVED)).append(" of ").append(results.size()).append(" skills proved in ")
+				.append(formatTime(wallTime)).append("\n\n");
+		for (ProofResult result : results) {
+			builder.append(result.getName()).append(": ").append(result.getStatus()).append(" (")
+					.append(formatTime(result.getWallTime())).append(result.isCached() ? ", cached" : "").append(")\n");
+		}
+		return builder.toString();
+	}
+
+	private static String formatTime(long millis) {
+		return String.format("%.1fs", millis / 1000.0);
+	}
+
+	@Override
+	public String toString() {
+		return format();
+	}
+}
@@ -0,0 +1,178 @@
+package de.tubs.skeditor.verification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+import SkillGraph.Graph;
+import SkillGraph.Node;
+import SkillGraph.Parameter;
+import SkillGraph.SkillGraphPackage;
+import de.tubs.skeditor.keymaera.TemplateRegistry;
+import de.tubs.skeditor.utils.GraphTraversal;
+import de.tubs.skeditor.verification.ProofResult.Status;
+
+/**
+ * Keeps track of the skills whose last KeYmaera check is out of date. The
+ * tracker is attached to the graph as a content adapter and therefore sees
+ * every change of nodes, requirements, equations, controllers, edges and
+ * parameters. A change of a skill invalidates the skill and all of its
+ * ancestors, because their contracts are built from it. A change of a
+ * parameter invalidates every skill.
+ */
+public class VerificationTracker extends EContentAdapter {
+
+	private final Graph graph;
+	private final Set<Node> upToDate = new HashSet<Node>();
+	private final Map<Node, Long> revisions = new HashMap<Node, Long>();
+
+	private VerificationTracker(Graph graph) {
+		this.graph = graph;
+	}
+
+	/**
+	 * @return the tracker of the graph, it is created and attached on first
+	 *         use
+	 */
+	public static synchronized VerificationTracker forGraph(Graph graph) {
+		for (Adapter adapter : graph.eAdapters()) {
+			if (adapter instanceof VerificationTracker) {
+				return (VerificationTracker) adapter;
+			}
+		}
+		VerificationTracker tracker = new VerificationTracker(graph);
+		graph.eAdapters().add(tracker);
+		return tracker;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == VerificationTracker.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		if (feature == SkillGraphPackage.Literals.NODE__PARENT_NODES) {
+			// mirrored by the child edges of the parent, which are handled there
+			return;
+		}
+
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof Parameter || feature == SkillGraphPackage.Literals.GRAPH__PARAMETER_LIST) {
+			invalidateAll();
+		} else if (notifier instanceof Graph) {
+			if (notification.getNewValue() instanceof Node) {
+				invalidate((Node) notification.getNewValue());
+			}
+		} else if (notifier instanceof EObject) {
+			Node node = getNode((EObject) notifier);
+			if (node != null) {
+				invalidate(node);
+			}
+		}
+	}
+
+	/**
+	 * Marks the node and all of its ancestors as out of date.
+	 */
+	public synchronized void invalidate(Node node) {
+		List<Node> nodes = GraphTraversal.getAncestors(node);
+		if (!nodes.contains(node)) {
+			nodes.add(node);
+		}
+		for (Node current : nodes) {
+			upToDate.remove(current);
+			revisions.merge(current, 1L, Long::sum);
+		}
+	}
+
+	public synchronized void invalidateAll() {
+		upToDate.clear();
+		for (Node node : getNodes()) {
+			revisions.merge(node, 1L, Long::sum);
+		}
+	}
+
+	/**
+	 * @return all skills of the graph whose last check is out of date
+	 */
+	public synchronized List<Node> getDirtyNodes() {
+		List<Node> dirty = new ArrayList<Node>();
+		for (Node node : getNodes()) {
+			if (!upToDate.contains(node)) {
+				dirty.add(node);
+			}
+		}
+		return dirty;
+	}
+
+	/**
+	 * Creates the obligations for the given skills and remembers the
+	 * revision they were created from. Has to be called while the model may be
+	 * read.
+	 */
+	public synchronized List<ProofObligation> createObligations(List<Node> nodes, TemplateRegistry templates) {
+		List<ProofObligation> obligations = ProofObligation.create(nodes, templates);
+		for (ProofObligation obligation : obligations) {
+			obligation.setRevision(getRevision(obligation.getNode()));
+		}
+		return obligations;
+	}
+
+	/**
+	 * Marks the skill of the obligation as up to date, unless the check did not
+	 * finish or the skill was changed while it was checked.
+	 */
+	public synchronized void checked(ProofObligation obligation, ProofResult result) {
+		Status status = result.getStatus();
+		if (status != Status.PROVED && status != Status.NOT_PROVED && status != Status.SKIPPED) {
+			return;
+		}
+		if (getRevision(obligation.getNode()) == obligation.getRevision()) {
+			upToDate.add(obligation.getNode());
+		}
+	}
+
+	private long getRevision(Node node) {
+		Long revision = revisions.get(node);
+		return revision == null ? 0 : revision;
+	}
+
+	private List<Node> getNodes() {
+		List<Node> nodes = new ArrayList<Node>();
+		if (graph.getRootNode() != null) {
+			nodes.add(graph.getRootNode());
+		}
+		for (Node node : graph.getNodes()) {
+			if (!nodes.contains(node)) {
+				nodes.add(node);
+			}
+		}
+		return nodes;
+	}
+
+	/**
+	 * @return the node the object belongs to, or null for objects outside of
+	 *         nodes
+	 */
+	private static Node getNode(EObject object) {
+		EObject current = object;
+		while (current != null && !(current instanceof Node)) {
+			current = current.eContainer();
+		}
+		return (Node) current;
+	}
+}
@@ -15,8 +15,8 @@ import org.eclipse.swt.widgets.Display;
 
 import SkillGraph.Node;
 import SkillGraph.Requirement;
-import de.tubs.skeditor.contracting.grammar.GrammarUtil;
 import de.tubs.skeditor.contracting.grammar.SyntaxError;
+import de.tubs.skeditor.utils.ValidationService;
 
 public class LabelProvider implements ITableLabelProvider, ITableFontProvider, ITableColorProvider {
 
@@ -93,11 +93,11 @@ public class LabelProvider implements ITableLabelProvider, ITableFontProvider, I
 			
 			switch (columnIndex) {
 			case 1:
-				List<SyntaxError> errors = GrammarUtil.tryToParse(req.getTerm());
+				// parsed once per term, the markers are published by the service
+				List<SyntaxError> errors = ValidationService.getSyntaxErrors(req);
 				if(errors.isEmpty())
 					return null;
 				else {
-					//TODO add markers fr syntax errors
 					return Display.getCurrent().getSystemColor(SWT.COLOR_RED);
 				}
 			default:break;